@@ -6,8 +6,8 @@
  */
 
 plugins {
-    // Apply the application plugin to add support for building a CLI application in Java.
-    application
+    // Apply the java-library plugin to build the collections as a library.
+    `java-library`
 }
 
 repositories {
@@ -15,6 +15,25 @@ repositories {
     mavenCentral()
 }
 
+// The JMH benchmarks live in their own source set, so the library doesn't depend on JMH.
+val jmh by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[jmh.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+
+// The off-heap and memory-mapped collections use the FFM API (java.lang.foreign), which is a
+// preview feature in Java 21. They live in their own source set published as the optional
+// "foreign" feature, so only their classes require --enable-preview and the main library doesn't.
+val foreign by sourceSets.creating
+
+java {
+    registerFeature("foreign") {
+        usingSourceSet(foreign)
+    }
+}
+
 dependencies {
     // Use JUnit Jupiter for testing.
     testImplementation(libs.junit.jupiter)
@@ -24,14 +43,16 @@ dependencies {
     // This dependency is used by the application.
     implementation(libs.guava)
 
-    implementation("org.openjdk.jmh:jmh-core:1.37")
-    annotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:1.37")
-
     compileOnly("org.projectlombok:lombok:1.18.34")
     annotationProcessor("org.projectlombok:lombok:1.18.34")
 
     testCompileOnly("org.projectlombok:lombok:1.18.34")
     testAnnotationProcessor("org.projectlombok:lombok:1.18.34")
+
+    "foreignApi"(project(path))
+
+    "jmhImplementation"(libs.jmh.core)
+    "jmhAnnotationProcessor"(libs.jmh.generator.annprocess)
 }
 
 // Apply a specific Java toolchain to ease working on different environments.
@@ -41,12 +62,22 @@ java {
     }
 }
 
-application {
-    // Define the main class for the application.
-    mainClass = "jarkz.collection.App"
+tasks.named<JavaCompile>(foreign.compileJavaTaskName) {
+    options.compilerArgs.add("--enable-preview")
 }
 
 tasks.named<Test>("test") {
     // Use JUnit Platform for unit tests.
     useJUnitPlatform()
 }
+
+// Runs the benchmarks with allocation profiling. Other JMH options may be passed by
+// -PjmhArgs="...", e.g. -PjmhArgs="VectorBenchmark -p size=1000 -prof gc".
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks."
+    dependsOn(tasks.named(jmh.classesTaskName))
+    classpath = jmh.runtimeClasspath
+    mainClass = "org.openjdk.jmh.Main"
+    args = (findProperty("jmhArgs") as String?)?.split(" ") ?: listOf("-prof", "gc")
+}
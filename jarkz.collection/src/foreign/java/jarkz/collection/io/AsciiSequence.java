@@ -0,0 +1,48 @@
+package jarkz.collection.io;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.charset.StandardCharsets;
+
+/** The {@link CharSequence} view of bytes, where every byte is a char in ISO-8859-1 charset. */
+final class AsciiSequence implements CharSequence {
+  private final MemorySegment data;
+
+  AsciiSequence(MemorySegment data) {
+    this.data = data;
+  }
+
+  @Override
+  public int length() {
+    return (int) data.byteSize();
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (index < 0 || data.byteSize() <= index) {
+      throw new IndexOutOfBoundsException("Invalid index: " + index);
+    }
+
+    return (char) (data.get(ValueLayout.JAVA_BYTE, index) & 0xFF);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    if (start < 0 || end < start || data.byteSize() < end) {
+      throw new IndexOutOfBoundsException("Invalid range: " + start + ".." + end);
+    }
+
+    return new AsciiSequence(data.asSlice(start, end - start));
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return data.byteSize() == 0;
+  }
+
+  /** Copies the bytes into a new {@link String}. */
+  @Override
+  public String toString() {
+    return new String(data.toArray(ValueLayout.JAVA_BYTE), StandardCharsets.ISO_8859_1);
+  }
+}
@@ -0,0 +1,154 @@
+package jarkz.collection.io;
+
+import jarkz.collection.iterator.SizeHint;
+import jarkz.collection.iterator.SplittableIterator;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class IterRecords<T> implements SplittableIterator<T> {
+  private static final long LSB = 0x0101010101010101L;
+  private static final long MSB = 0x8080808080808080L;
+  private static final ValueLayout.OfLong WORD =
+      ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+  private MemorySegment data;
+  private byte delimiter;
+  private boolean trimCarriageReturn;
+  private Function<MemorySegment, T> view;
+  private long frontPointer;
+  private long backPointer;
+
+  IterRecords(
+      MemorySegment data,
+      byte delimiter,
+      boolean trimCarriageReturn,
+      Function<MemorySegment, T> view) {
+    this(data, delimiter, trimCarriageReturn, view, 0, data.byteSize());
+  }
+
+  private IterRecords(
+      MemorySegment data,
+      byte delimiter,
+      boolean trimCarriageReturn,
+      Function<MemorySegment, T> view,
+      long frontPointer,
+      long backPointer) {
+    this.data = data;
+    this.delimiter = delimiter;
+    this.trimCarriageReturn = trimCarriageReturn;
+    this.view = view;
+    this.frontPointer = frontPointer;
+    this.backPointer = backPointer;
+  }
+
+  private boolean isEnd() {
+    return frontPointer >= backPointer;
+  }
+
+  /**
+   * Returns the position of first delimiter in range from the given position to the back pointer,
+   * or the back pointer if there is none. It compares 8 bytes at once.
+   */
+  private long findDelimiter(long from) {
+    var pattern = LSB * (delimiter & 0xFF);
+    var position = from;
+    for (; position + Long.BYTES <= backPointer; position += Long.BYTES) {
+      var cmp = data.get(WORD, position) ^ pattern;
+      var matched = (cmp - LSB) & ~cmp & MSB;
+      if (matched != 0) {
+        return position + (Long.numberOfTrailingZeros(matched) >>> 3);
+      }
+    }
+
+    for (; position < backPointer; position++) {
+      if (data.get(ValueLayout.JAVA_BYTE, position) == delimiter) {
+        return position;
+      }
+    }
+
+    return backPointer;
+  }
+
+  /** Takes the record at front pointer and moves the pointer past its delimiter. */
+  private T take() {
+    var start = frontPointer;
+    var end = findDelimiter(start);
+    frontPointer = end + 1;
+
+    if (trimCarriageReturn && end > start && data.get(ValueLayout.JAVA_BYTE, end - 1) == '\r') {
+      end -= 1;
+    }
+
+    return view.apply(data.asSlice(start, end - start));
+  }
+
+  /**
+   * Every record takes at least one byte, so the count of remaining bytes is the upper bound of
+   * records.
+   */
+  @Override
+  public SizeHint sizeHint() {
+    var remaining = Math.max(backPointer - frontPointer, 0);
+    if (remaining == 0) {
+      return SizeHint.exact(0);
+    }
+
+    if (remaining > Integer.MAX_VALUE) {
+      return SizeHint.atLeast(1);
+    }
+
+    return SizeHint.between(1, (int) remaining);
+  }
+
+  @Override
+  public Optional<T> next() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(take());
+  }
+
+  /**
+   * Splits the remaining bytes in half and moves the split point to the next record, so no record
+   * is cut. Returns empty value if the second half has no record boundary.
+   */
+  @Override
+  public Optional<SplittableIterator<T>> trySplit() {
+    if (backPointer - frontPointer < 2) {
+      return Optional.empty();
+    }
+
+    var middle = frontPointer + (backPointer - frontPointer) / 2;
+    var split = findDelimiter(middle) + 1;
+    if (split >= backPointer) {
+      return Optional.empty();
+    }
+
+    var prefix =
+        new IterRecords<>(data, delimiter, trimCarriageReturn, view, frontPointer, split);
+    frontPointer = split;
+    return Optional.of(prefix);
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    action.accept(take());
+    return true;
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    while (!isEnd()) {
+      body.accept(take());
+    }
+  }
+}
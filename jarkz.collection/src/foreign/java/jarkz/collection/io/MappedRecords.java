@@ -0,0 +1,82 @@
+package jarkz.collection.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The file of delimited records, e.g. lines of a log, accessed through memory mapping. Its
+ * iterators yield views into the mapping instead of copying every record, so the filters may reject
+ * most of records without creating any {@link String}.
+ *
+ * <p>The iterators are {@link jarkz.collection.iterator.SplittableIterator}, they split the file on
+ * record boundaries for the parallel processing.
+ *
+ * <p>> <b>Attention</b>: all views are invalidated by {@link MappedRecords#close} and throw {@link
+ * IllegalStateException} on access, so copy the records which must outlive the file.
+ */
+public class MappedRecords implements Closeable {
+  private static final byte NEW_LINE = '\n';
+
+  private final Arena arena;
+  private final MemorySegment data;
+  private final byte delimiter;
+
+  private MappedRecords(Arena arena, MemorySegment data, byte delimiter) {
+    this.arena = arena;
+    this.data = data;
+    this.delimiter = delimiter;
+  }
+
+  /** Maps the file of lines separated by {@code '\n'}. */
+  public static MappedRecords open(Path path) throws IOException {
+    return open(path, NEW_LINE);
+  }
+
+  /** Maps the file of records separated by the given byte. */
+  public static MappedRecords open(Path path, byte delimiter) throws IOException {
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      var arena = Arena.ofShared();
+      try {
+        var data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+        return new MappedRecords(arena, data, delimiter);
+      } catch (IOException | RuntimeException e) {
+        arena.close();
+        throw e;
+      }
+    }
+  }
+
+  /** The size of file in bytes. */
+  public long byteSize() {
+    return data.byteSize();
+  }
+
+  /**
+   * Iterates over records as read-only {@link ByteBuffer} views without the delimiter. Use it for
+   * binary records or to decode text in other charset than ASCII.
+   */
+  public IterRecords<ByteBuffer> records() {
+    return new IterRecords<>(data, delimiter, false, MemorySegment::asByteBuffer);
+  }
+
+  /**
+   * Iterates over records as {@link CharSequence} views which map every byte to a char, so it suits
+   * ASCII text. If the delimiter is {@code '\n'}, the trailing {@code '\r'} is dropped too.
+   */
+  public IterRecords<CharSequence> lines() {
+    return new IterRecords<>(data, delimiter, delimiter == NEW_LINE, AsciiSequence::new);
+  }
+
+  @Override
+  public void close() {
+    if (arena.scope().isAlive()) {
+      arena.close();
+    }
+  }
+}
@@ -0,0 +1,109 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.SizeHint;
+import jarkz.collection.iterator.SplittableIterator;
+import java.lang.foreign.MemorySegment;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class IterMappedVector<T> implements DoubleEndedIterator<T>, SplittableIterator<T> {
+  private MemorySegment data;
+  private RecordLayout<T> layout;
+  private long base;
+  private long frontPointer;
+  private long backPointer;
+
+  IterMappedVector(
+      MemorySegment data, RecordLayout<T> layout, long base, long frontPointer, long backPointer) {
+    this.data = data;
+    this.layout = layout;
+    this.base = base;
+    this.frontPointer = frontPointer;
+    this.backPointer = backPointer;
+  }
+
+  private boolean isEnd() {
+    return frontPointer >= backPointer;
+  }
+
+  private T read(long index) {
+    return layout.read(data, base + index * layout.width());
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    var remaining = Math.max(backPointer - frontPointer, 0);
+    if (remaining > Integer.MAX_VALUE) {
+      return SizeHint.atLeast(Integer.MAX_VALUE);
+    }
+
+    return SizeHint.exact((int) remaining);
+  }
+
+  @Override
+  public Optional<T> next() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    var element = read(frontPointer);
+    frontPointer += 1;
+    return Optional.of(element);
+  }
+
+  @Override
+  public Optional<T> nextBack() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    backPointer -= 1;
+    return Optional.of(read(backPointer));
+  }
+
+  @Override
+  public Optional<SplittableIterator<T>> trySplit() {
+    if (backPointer - frontPointer < 2) {
+      return Optional.empty();
+    }
+
+    var middle = frontPointer + (backPointer - frontPointer) / 2;
+    var prefix = new IterMappedVector<>(data, layout, base, frontPointer, middle);
+    frontPointer = middle;
+    return Optional.of(prefix);
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    var element = read(frontPointer);
+    frontPointer += 1;
+    action.accept(element);
+    return true;
+  }
+
+  @Override
+  public boolean tryAdvanceBack(Consumer<T> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    backPointer -= 1;
+    action.accept(read(backPointer));
+    return true;
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    var end = backPointer;
+    for (long i = frontPointer; i < end; i++) {
+      body.accept(read(i));
+    }
+
+    frontPointer = end;
+  }
+}
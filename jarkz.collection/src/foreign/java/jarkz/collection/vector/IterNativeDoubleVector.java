@@ -0,0 +1,103 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.SizeHint;
+import jarkz.collection.iterator.SplittableIterator;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class IterNativeDoubleVector implements DoubleEndedIterator<Double>, SplittableIterator<Double> {
+  private static final ValueLayout.OfDouble LAYOUT = ValueLayout.JAVA_DOUBLE;
+
+  private MemorySegment data;
+  private long frontPointer;
+  private long backPointer;
+
+  IterNativeDoubleVector(MemorySegment data, long frontPointer, long backPointer) {
+    this.data = data;
+    this.frontPointer = frontPointer;
+    this.backPointer = backPointer;
+  }
+
+  private boolean isEnd() {
+    return frontPointer >= backPointer;
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    var remaining = Math.max(backPointer - frontPointer, 0);
+    if (remaining > Integer.MAX_VALUE) {
+      return SizeHint.atLeast(Integer.MAX_VALUE);
+    }
+
+    return SizeHint.exact((int) remaining);
+  }
+
+  @Override
+  public Optional<Double> next() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    var element = data.getAtIndex(LAYOUT, frontPointer);
+    frontPointer += 1;
+    return Optional.of(element);
+  }
+
+  @Override
+  public Optional<Double> nextBack() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    backPointer -= 1;
+    return Optional.of(data.getAtIndex(LAYOUT, backPointer));
+  }
+
+  @Override
+  public Optional<SplittableIterator<Double>> trySplit() {
+    if (backPointer - frontPointer < 2) {
+      return Optional.empty();
+    }
+
+    var middle = frontPointer + (backPointer - frontPointer) / 2;
+    var prefix = new IterNativeDoubleVector(data, frontPointer, middle);
+    frontPointer = middle;
+    return Optional.of(prefix);
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<Double> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    var element = data.getAtIndex(LAYOUT, frontPointer);
+    frontPointer += 1;
+    action.accept(element);
+    return true;
+  }
+
+  @Override
+  public boolean tryAdvanceBack(Consumer<Double> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    backPointer -= 1;
+    action.accept(data.getAtIndex(LAYOUT, backPointer));
+    return true;
+  }
+
+  @Override
+  public void forEach(Consumer<Double> body) {
+    var end = backPointer;
+    for (long i = frontPointer; i < end; i++) {
+      body.accept(data.getAtIndex(LAYOUT, i));
+    }
+
+    frontPointer = end;
+  }
+}
@@ -0,0 +1,103 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.SizeHint;
+import jarkz.collection.iterator.SplittableIterator;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class IterNativeLongVector implements DoubleEndedIterator<Long>, SplittableIterator<Long> {
+  private static final ValueLayout.OfLong LAYOUT = ValueLayout.JAVA_LONG;
+
+  private MemorySegment data;
+  private long frontPointer;
+  private long backPointer;
+
+  IterNativeLongVector(MemorySegment data, long frontPointer, long backPointer) {
+    this.data = data;
+    this.frontPointer = frontPointer;
+    this.backPointer = backPointer;
+  }
+
+  private boolean isEnd() {
+    return frontPointer >= backPointer;
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    var remaining = Math.max(backPointer - frontPointer, 0);
+    if (remaining > Integer.MAX_VALUE) {
+      return SizeHint.atLeast(Integer.MAX_VALUE);
+    }
+
+    return SizeHint.exact((int) remaining);
+  }
+
+  @Override
+  public Optional<Long> next() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    var element = data.getAtIndex(LAYOUT, frontPointer);
+    frontPointer += 1;
+    return Optional.of(element);
+  }
+
+  @Override
+  public Optional<Long> nextBack() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    backPointer -= 1;
+    return Optional.of(data.getAtIndex(LAYOUT, backPointer));
+  }
+
+  @Override
+  public Optional<SplittableIterator<Long>> trySplit() {
+    if (backPointer - frontPointer < 2) {
+      return Optional.empty();
+    }
+
+    var middle = frontPointer + (backPointer - frontPointer) / 2;
+    var prefix = new IterNativeLongVector(data, frontPointer, middle);
+    frontPointer = middle;
+    return Optional.of(prefix);
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<Long> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    var element = data.getAtIndex(LAYOUT, frontPointer);
+    frontPointer += 1;
+    action.accept(element);
+    return true;
+  }
+
+  @Override
+  public boolean tryAdvanceBack(Consumer<Long> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    backPointer -= 1;
+    action.accept(data.getAtIndex(LAYOUT, backPointer));
+    return true;
+  }
+
+  @Override
+  public void forEach(Consumer<Long> body) {
+    var end = backPointer;
+    for (long i = frontPointer; i < end; i++) {
+      body.accept(data.getAtIndex(LAYOUT, i));
+    }
+
+    frontPointer = end;
+  }
+}
@@ -0,0 +1,205 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.IntoIterator;
+import jarkz.collection.iterator.ParallelIterator;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * The vector of fixed-width records stored in a file and accessed through memory mapping. Opening
+ * only maps the file, so the data is loaded lazily by the OS page cache and may exceed both the heap
+ * and RAM.
+ *
+ * <p>The file starts with a header of {@value #HEADER_SIZE} bytes: the magic number, the width of
+ * record and the count of records. The records follow one after another in {@link RecordLayout}
+ * form.
+ *
+ * <p>> <b>Attention</b>: the vector remaps the file when it grows, so iterators created before
+ * growth are invalidated and throw {@link IllegalStateException} on access.
+ */
+public class MappedVector<T> implements IntoIterator<T, DoubleEndedIterator<T>>, Closeable {
+  static final long HEADER_SIZE = 16;
+
+  private static final int MAGIC = 0x4A4B5A56; // "JKZV"
+  private static final long WIDTH_OFFSET = 4;
+  private static final long LEN_OFFSET = 8;
+  private static final long MIN_CAPACITY = 1024;
+
+  private final FileChannel channel;
+  private final RecordLayout<T> layout;
+  private final boolean readOnly;
+  private Arena arena;
+  private MemorySegment data;
+  private long capacity;
+  private long len;
+
+  private MappedVector(FileChannel channel, RecordLayout<T> layout, boolean readOnly) {
+    this.channel = channel;
+    this.layout = layout;
+    this.readOnly = readOnly;
+  }
+
+  /** Opens the file for reading and appending, creates it if it doesn't exist. */
+  public static <T> MappedVector<T> open(Path path, RecordLayout<T> layout) throws IOException {
+    var channel =
+        FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    return init(new MappedVector<>(channel, layout, false));
+  }
+
+  /** Opens the existing file only for reading. */
+  public static <T> MappedVector<T> openReadOnly(Path path, RecordLayout<T> layout)
+      throws IOException {
+    var channel = FileChannel.open(path, StandardOpenOption.READ);
+    return init(new MappedVector<>(channel, layout, true));
+  }
+
+  private static <T> MappedVector<T> init(MappedVector<T> vector) throws IOException {
+    try {
+      var width = vector.layout.width();
+      var fileSize = vector.channel.size();
+
+      if (fileSize == 0 && !vector.readOnly) {
+        vector.map(MIN_CAPACITY);
+        vector.data.set(ValueLayout.JAVA_INT_UNALIGNED, 0, MAGIC);
+        vector.data.set(ValueLayout.JAVA_INT_UNALIGNED, WIDTH_OFFSET, (int) width);
+        vector.writeLen(0);
+        return vector;
+      }
+
+      if (fileSize < HEADER_SIZE) {
+        throw new IOException("The file is too small to be a mapped vector: " + fileSize);
+      }
+
+      var storedCapacity = (fileSize - HEADER_SIZE) / width;
+      vector.map(vector.readOnly ? storedCapacity : Math.max(storedCapacity, MIN_CAPACITY));
+      if (vector.data.get(ValueLayout.JAVA_INT_UNALIGNED, 0) != MAGIC) {
+        throw new IOException("The file is not a mapped vector");
+      }
+
+      var storedWidth = vector.data.get(ValueLayout.JAVA_INT_UNALIGNED, WIDTH_OFFSET);
+      if (storedWidth != width) {
+        throw new IOException(
+            "The file holds records of " + storedWidth + " bytes, but layout has " + width);
+      }
+
+      vector.len = vector.data.get(ValueLayout.JAVA_LONG_UNALIGNED, LEN_OFFSET);
+      if (vector.len < 0 || vector.len > vector.capacity) {
+        throw new IOException("The file is truncated, it must hold " + vector.len + " records");
+      }
+
+      return vector;
+    } catch (IOException | RuntimeException e) {
+      vector.channel.close();
+      throw e;
+    }
+  }
+
+  private void map(long newCapacity) throws IOException {
+    var mode = readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE;
+    var newArena = Arena.ofShared();
+    try {
+      data = channel.map(mode, 0, HEADER_SIZE + newCapacity * layout.width(), newArena);
+    } catch (IOException | RuntimeException e) {
+      newArena.close();
+      throw e;
+    }
+
+    if (arena != null) {
+      arena.close();
+    }
+
+    arena = newArena;
+    capacity = newCapacity;
+  }
+
+  private void writeLen(long newLen) {
+    len = newLen;
+    data.set(ValueLayout.JAVA_LONG_UNALIGNED, LEN_OFFSET, newLen);
+  }
+
+  private long offset(long index) {
+    return HEADER_SIZE + index * layout.width();
+  }
+
+  public long len() {
+    return len;
+  }
+
+  public boolean isEmpty() {
+    return len == 0;
+  }
+
+  public Optional<T> at(long index) {
+    if (index < 0 || len <= index) {
+      return Optional.empty();
+    }
+
+    return Optional.of(layout.read(data, offset(index)));
+  }
+
+  /**
+   * Appends the element at the end of file. When the mapping is full the file is extended twice
+   * and remapped.
+   */
+  public void push(T element) {
+    if (readOnly) {
+      throw new UnsupportedOperationException("Can't push into read-only mapped vector");
+    }
+
+    if (len == capacity) {
+      try {
+        map(capacity * 2);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    layout.write(data, offset(len), element);
+    writeLen(len + 1);
+  }
+
+  /** Writes the changes of mapped memory into the file. */
+  public void flush() {
+    if (!readOnly) {
+      data.force();
+    }
+  }
+
+  @Override
+  public DoubleEndedIterator<T> intoIterator() {
+    return new IterMappedVector<>(data, layout, HEADER_SIZE, 0, len);
+  }
+
+  /** Creates the {@link ParallelIterator} which splits the records between threads. */
+  public ParallelIterator<T> parallel() {
+    return new IterMappedVector<>(data, layout, HEADER_SIZE, 0, len).parallel();
+  }
+
+  /** Flushes the changes, unmaps the file and cuts the unused capacity off the file. */
+  @Override
+  public void close() throws IOException {
+    if (!arena.scope().isAlive()) {
+      return;
+    }
+
+    try {
+      flush();
+      arena.close();
+      if (!readOnly) {
+        channel.truncate(offset(len));
+      }
+    } finally {
+      channel.close();
+    }
+  }
+}
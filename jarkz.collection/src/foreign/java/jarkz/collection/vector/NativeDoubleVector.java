@@ -0,0 +1,214 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.IntoIterator;
+import jarkz.collection.iterator.DoubleIterator;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+
+/**
+ * The primitive vector of {@code double} values which lives outside of the heap, so even multi-GB
+ * buffers neither inflate the heap nor are scanned by GC. The memory is allocated by {@link Arena}
+ * and released either by {@link NativeDoubleVector#close} or on reallocation when vector grows.
+ *
+ * <p>> <b>Attention</b>: any access after {@link NativeDoubleVector#close} throws {@link
+ * IllegalStateException}. Iterators read the memory directly, so don't grow or close the vector
+ * while iterating it.
+ */
+public class NativeDoubleVector
+    implements IntoIterator<Double, DoubleEndedIterator<Double>>, AutoCloseable {
+  private static final ValueLayout.OfDouble LAYOUT = ValueLayout.JAVA_DOUBLE;
+  private static final long DEFAULT_CAPACITY = 16;
+
+  private Arena arena;
+  private MemorySegment data;
+  private long capacity;
+  private long len;
+
+  public NativeDoubleVector() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  private NativeDoubleVector(long capacity) {
+    this.capacity = capacity;
+    arena = Arena.ofShared();
+    data = arena.allocate(capacity * LAYOUT.byteSize(), LAYOUT.byteAlignment());
+    len = 0;
+  }
+
+  /** Creates the empty vector which can hold given count of elements without reallocation. */
+  public static NativeDoubleVector withCapacity(long capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+
+    return new NativeDoubleVector(Math.max(capacity, 1));
+  }
+
+  /** Copies all values of on-heap {@link DoubleVector} into a new off-heap vector. */
+  public static NativeDoubleVector from(DoubleVector vector) {
+    var result = withCapacity(vector.len());
+    MemorySegment.copy(vector.array(), 0, result.data, LAYOUT, 0, vector.len());
+    result.len = vector.len();
+    return result;
+  }
+
+  public long len() {
+    return len;
+  }
+
+  public boolean isEmpty() {
+    return len == 0;
+  }
+
+  /** The count of elements which vector can hold without reallocation. */
+  public long capacity() {
+    return capacity;
+  }
+
+  public OptionalDouble pop() {
+    if (isEmpty()) {
+      return OptionalDouble.empty();
+    }
+
+    len -= 1;
+    return OptionalDouble.of(data.getAtIndex(LAYOUT, len));
+  }
+
+  public void push(double element) {
+    if (len == capacity) {
+      reserve(1);
+    }
+
+    data.setAtIndex(LAYOUT, len, element);
+    len += 1;
+  }
+
+  public OptionalDouble at(long index) {
+    if (index < 0 || len <= index) {
+      return OptionalDouble.empty();
+    }
+
+    return OptionalDouble.of(data.getAtIndex(LAYOUT, index));
+  }
+
+  /** Replaces the element at given index, returns false if index is out of vector. */
+  public boolean set(long index, double element) {
+    if (index < 0 || len <= index) {
+      return false;
+    }
+
+    data.setAtIndex(LAYOUT, index, element);
+    return true;
+  }
+
+  /** Removes all elements, but keeps the allocated memory for reuse. */
+  public void clear() {
+    len = 0;
+  }
+
+  /**
+   * Reserves the memory for at least additional count of elements. The vector moves into a new
+   * segment of doubled size and releases the old one immediately.
+   */
+  public void reserve(long additional) {
+    if (additional < 0 || additional > Long.MAX_VALUE / LAYOUT.byteSize() - len) {
+      throw new IllegalArgumentException(
+          "Can't reserve " + additional + " elements for vector with length " + len);
+    }
+
+    var required = len + additional;
+    if (required <= capacity) {
+      return;
+    }
+
+    var newCapacity = Math.max(required, capacity * 2);
+    var newArena = Arena.ofShared();
+    var newData = newArena.allocate(newCapacity * LAYOUT.byteSize(), LAYOUT.byteAlignment());
+    MemorySegment.copy(data, 0, newData, 0, len * LAYOUT.byteSize());
+
+    arena.close();
+    arena = newArena;
+    data = newData;
+    capacity = newCapacity;
+  }
+
+  /** Copies all values into a new on-heap {@link DoubleVector}. */
+  public DoubleVector toHeap() {
+    if (len > Integer.MAX_VALUE - 8) {
+      throw new IllegalStateException("The vector of " + len + " elements doesn't fit a heap array");
+    }
+
+    return new DoubleVector(data.asSlice(0, len * LAYOUT.byteSize()).toArray(LAYOUT));
+  }
+
+  /** Iterates over the values without boxing them. */
+  public DoubleIterator doubleIterator() {
+    return new Values(data, 0, len);
+  }
+
+  @Override
+  public DoubleEndedIterator<Double> intoIterator() {
+    return new IterNativeDoubleVector(data, 0, len);
+  }
+
+  /** Releases the memory. The vector is unusable after closing. */
+  @Override
+  public void close() {
+    if (arena.scope().isAlive()) {
+      arena.close();
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("NativeDoubleVector[");
+    for (long i = 0; i < len; i++) {
+      builder.append(data.getAtIndex(LAYOUT, i));
+
+      if (i < len - 1) {
+        builder.append(", ");
+      }
+    }
+
+    builder.append("]");
+    return builder.toString();
+  }
+
+  private static class Values implements DoubleIterator {
+    private MemorySegment data;
+    private long frontPointer;
+    private long backPointer;
+
+    Values(MemorySegment data, long frontPointer, long backPointer) {
+      this.data = data;
+      this.frontPointer = frontPointer;
+      this.backPointer = backPointer;
+    }
+
+    @Override
+    public OptionalDouble next() {
+      if (frontPointer >= backPointer) {
+        return OptionalDouble.empty();
+      }
+
+      var element = data.getAtIndex(LAYOUT, frontPointer);
+      frontPointer += 1;
+      return OptionalDouble.of(element);
+    }
+
+    @Override
+    public void forEach(DoubleConsumer body) {
+      var end = backPointer;
+      for (long i = frontPointer; i < end; i++) {
+        body.accept(data.getAtIndex(LAYOUT, i));
+      }
+
+      frontPointer = end;
+    }
+  }
+}
@@ -0,0 +1,214 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.IntoIterator;
+import jarkz.collection.iterator.LongIterator;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+
+/**
+ * The primitive vector of {@code long} values which lives outside of the heap, so even multi-GB
+ * buffers neither inflate the heap nor are scanned by GC. The memory is allocated by {@link Arena}
+ * and released either by {@link NativeLongVector#close} or on reallocation when vector grows.
+ *
+ * <p>> <b>Attention</b>: any access after {@link NativeLongVector#close} throws {@link
+ * IllegalStateException}. Iterators read the memory directly, so don't grow or close the vector
+ * while iterating it.
+ */
+public class NativeLongVector
+    implements IntoIterator<Long, DoubleEndedIterator<Long>>, AutoCloseable {
+  private static final ValueLayout.OfLong LAYOUT = ValueLayout.JAVA_LONG;
+  private static final long DEFAULT_CAPACITY = 16;
+
+  private Arena arena;
+  private MemorySegment data;
+  private long capacity;
+  private long len;
+
+  public NativeLongVector() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  private NativeLongVector(long capacity) {
+    this.capacity = capacity;
+    arena = Arena.ofShared();
+    data = arena.allocate(capacity * LAYOUT.byteSize(), LAYOUT.byteAlignment());
+    len = 0;
+  }
+
+  /** Creates the empty vector which can hold given count of elements without reallocation. */
+  public static NativeLongVector withCapacity(long capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+
+    return new NativeLongVector(Math.max(capacity, 1));
+  }
+
+  /** Copies all values of on-heap {@link LongVector} into a new off-heap vector. */
+  public static NativeLongVector from(LongVector vector) {
+    var result = withCapacity(vector.len());
+    MemorySegment.copy(vector.array(), 0, result.data, LAYOUT, 0, vector.len());
+    result.len = vector.len();
+    return result;
+  }
+
+  public long len() {
+    return len;
+  }
+
+  public boolean isEmpty() {
+    return len == 0;
+  }
+
+  /** The count of elements which vector can hold without reallocation. */
+  public long capacity() {
+    return capacity;
+  }
+
+  public OptionalLong pop() {
+    if (isEmpty()) {
+      return OptionalLong.empty();
+    }
+
+    len -= 1;
+    return OptionalLong.of(data.getAtIndex(LAYOUT, len));
+  }
+
+  public void push(long element) {
+    if (len == capacity) {
+      reserve(1);
+    }
+
+    data.setAtIndex(LAYOUT, len, element);
+    len += 1;
+  }
+
+  public OptionalLong at(long index) {
+    if (index < 0 || len <= index) {
+      return OptionalLong.empty();
+    }
+
+    return OptionalLong.of(data.getAtIndex(LAYOUT, index));
+  }
+
+  /** Replaces the element at given index, returns false if index is out of vector. */
+  public boolean set(long index, long element) {
+    if (index < 0 || len <= index) {
+      return false;
+    }
+
+    data.setAtIndex(LAYOUT, index, element);
+    return true;
+  }
+
+  /** Removes all elements, but keeps the allocated memory for reuse. */
+  public void clear() {
+    len = 0;
+  }
+
+  /**
+   * Reserves the memory for at least additional count of elements. The vector moves into a new
+   * segment of doubled size and releases the old one immediately.
+   */
+  public void reserve(long additional) {
+    if (additional < 0 || additional > Long.MAX_VALUE / LAYOUT.byteSize() - len) {
+      throw new IllegalArgumentException(
+          "Can't reserve " + additional + " elements for vector with length " + len);
+    }
+
+    var required = len + additional;
+    if (required <= capacity) {
+      return;
+    }
+
+    var newCapacity = Math.max(required, capacity * 2);
+    var newArena = Arena.ofShared();
+    var newData = newArena.allocate(newCapacity * LAYOUT.byteSize(), LAYOUT.byteAlignment());
+    MemorySegment.copy(data, 0, newData, 0, len * LAYOUT.byteSize());
+
+    arena.close();
+    arena = newArena;
+    data = newData;
+    capacity = newCapacity;
+  }
+
+  /** Copies all values into a new on-heap {@link LongVector}. */
+  public LongVector toHeap() {
+    if (len > Integer.MAX_VALUE - 8) {
+      throw new IllegalStateException("The vector of " + len + " elements doesn't fit a heap array");
+    }
+
+    return new LongVector(data.asSlice(0, len * LAYOUT.byteSize()).toArray(LAYOUT));
+  }
+
+  /** Iterates over the values without boxing them. */
+  public LongIterator longIterator() {
+    return new Values(data, 0, len);
+  }
+
+  @Override
+  public DoubleEndedIterator<Long> intoIterator() {
+    return new IterNativeLongVector(data, 0, len);
+  }
+
+  /** Releases the memory. The vector is unusable after closing. */
+  @Override
+  public void close() {
+    if (arena.scope().isAlive()) {
+      arena.close();
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("NativeLongVector[");
+    for (long i = 0; i < len; i++) {
+      builder.append(data.getAtIndex(LAYOUT, i));
+
+      if (i < len - 1) {
+        builder.append(", ");
+      }
+    }
+
+    builder.append("]");
+    return builder.toString();
+  }
+
+  private static class Values implements LongIterator {
+    private MemorySegment data;
+    private long frontPointer;
+    private long backPointer;
+
+    Values(MemorySegment data, long frontPointer, long backPointer) {
+      this.data = data;
+      this.frontPointer = frontPointer;
+      this.backPointer = backPointer;
+    }
+
+    @Override
+    public OptionalLong next() {
+      if (frontPointer >= backPointer) {
+        return OptionalLong.empty();
+      }
+
+      var element = data.getAtIndex(LAYOUT, frontPointer);
+      frontPointer += 1;
+      return OptionalLong.of(element);
+    }
+
+    @Override
+    public void forEach(LongConsumer body) {
+      var end = backPointer;
+      for (long i = frontPointer; i < end; i++) {
+        body.accept(data.getAtIndex(LAYOUT, i));
+      }
+
+      frontPointer = end;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package jarkz.collection.vector;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+
+/**
+ * The fixed-width binary form of elements stored by {@link MappedVector}. Every element takes
+ * exactly {@link RecordLayout#width} bytes, so the element at any index is found without scanning.
+ */
+public interface RecordLayout<T> {
+  public static final RecordLayout<Integer> INT =
+      new RecordLayout<>() {
+        @Override
+        public long width() {
+          return Integer.BYTES;
+        }
+
+        @Override
+        public Integer read(MemorySegment segment, long offset) {
+          return segment.get(ValueLayout.JAVA_INT_UNALIGNED, offset);
+        }
+
+        @Override
+        public void write(MemorySegment segment, long offset, Integer value) {
+          segment.set(ValueLayout.JAVA_INT_UNALIGNED, offset, value);
+        }
+      };
+
+  public static final RecordLayout<Long> LONG =
+      new RecordLayout<>() {
+        @Override
+        public long width() {
+          return Long.BYTES;
+        }
+
+        @Override
+        public Long read(MemorySegment segment, long offset) {
+          return segment.get(ValueLayout.JAVA_LONG_UNALIGNED, offset);
+        }
+
+        @Override
+        public void write(MemorySegment segment, long offset, Long value) {
+          segment.set(ValueLayout.JAVA_LONG_UNALIGNED, offset, value);
+        }
+      };
+
+  public static final RecordLayout<Double> DOUBLE =
+      new RecordLayout<>() {
+        @Override
+        public long width() {
+          return Double.BYTES;
+        }
+
+        @Override
+        public Double read(MemorySegment segment, long offset) {
+          return segment.get(ValueLayout.JAVA_DOUBLE_UNALIGNED, offset);
+        }
+
+        @Override
+        public void write(MemorySegment segment, long offset, Double value) {
+          segment.set(ValueLayout.JAVA_DOUBLE_UNALIGNED, offset, value);
+        }
+      };
+
+  /** The count of bytes taken by every element. */
+  public long width();
+
+  public T read(MemorySegment segment, long offset);
+
+  public void write(MemorySegment segment, long offset, T value);
+}
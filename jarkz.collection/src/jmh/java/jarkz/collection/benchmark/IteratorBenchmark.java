@@ -0,0 +1,209 @@
+package jarkz.collection.benchmark;
+
+import jarkz.collection.vector.IntVector;
+import jarkz.collection.vector.Vector;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures every adapter of {@code jarkz.collection.iterator.functools} over {@link Vector} and
+ * compares it with the same pipeline of {@link Stream}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IteratorBenchmark {
+
+  @Param({"1000", "1000000"})
+  private int size;
+
+  private Integer[] data;
+  private int[] primitiveData;
+  private Vector<Integer> vector;
+  private IntVector intVector;
+
+  @Setup
+  public void setup() {
+    primitiveData = IntStream.range(0, size).toArray();
+    data = Arrays.stream(primitiveData).boxed().toArray(Integer[]::new);
+    vector = new Vector<>(data);
+    intVector = new IntVector(primitiveData);
+  }
+
+  @Benchmark
+  public Optional<Long> pipelineIterator() {
+    return vector
+        .intoIterator()
+        .map(a -> (long) a * (long) a)
+        .filter(a -> a % 2 == 0)
+        .reduce((lhs, rhs) -> lhs + rhs);
+  }
+
+  @Benchmark
+  public long pipelinePrimitiveIterator() {
+    return intVector
+        .intoIterator()
+        .mapToLong(a -> (long) a * (long) a)
+        .filter(a -> a % 2 == 0)
+        .sum();
+  }
+
+  @Benchmark
+  public Optional<Long> pipelineStream() {
+    return Arrays.stream(data)
+        .map(a -> (long) a * (long) a)
+        .filter(a -> a % 2 == 0)
+        .reduce((lhs, rhs) -> lhs + rhs);
+  }
+
+  @Benchmark
+  public long pipelinePrimitiveStream() {
+    return Arrays.stream(primitiveData)
+        .mapToLong(a -> (long) a * (long) a)
+        .filter(a -> a % 2 == 0)
+        .sum();
+  }
+
+  @Benchmark
+  public void mapIterator(Blackhole blackhole) {
+    vector.intoIterator().map(a -> a + 1).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void mapStream(Blackhole blackhole) {
+    Arrays.stream(data).map(a -> a + 1).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void filterIterator(Blackhole blackhole) {
+    vector.intoIterator().filter(a -> a % 2 == 0).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void filterStream(Blackhole blackhole) {
+    Arrays.stream(data).filter(a -> a % 2 == 0).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void filterMapIterator(Blackhole blackhole) {
+    vector
+        .intoIterator()
+        .filterMap(a -> a % 2 == 0 ? Optional.of(a / 2) : Optional.empty())
+        .forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void filterMapStream(Blackhole blackhole) {
+    Arrays.stream(data)
+        .mapMulti(
+            (Integer a, Consumer<Integer> sink) -> {
+              if (a % 2 == 0) {
+                sink.accept(a / 2);
+              }
+            })
+        .forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void flatMapIterator(Blackhole blackhole) {
+    vector
+        .intoIterator()
+        .flatMap(a -> new Vector<>(a, a).intoIterator())
+        .forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void flatMapStream(Blackhole blackhole) {
+    Arrays.stream(data).flatMap(a -> Stream.of(a, a)).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void chainIterator(Blackhole blackhole) {
+    vector.intoIterator().chain(vector.intoIterator()).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void chainStream(Blackhole blackhole) {
+    Stream.concat(Arrays.stream(data), Arrays.stream(data)).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void takeIterator(Blackhole blackhole) {
+    vector.intoIterator().take(size / 2).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void takeStream(Blackhole blackhole) {
+    Arrays.stream(data).limit(size / 2).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void takeWhileIterator(Blackhole blackhole) {
+    vector.intoIterator().takeWhile(a -> a < size / 2).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void takeWhileStream(Blackhole blackhole) {
+    Arrays.stream(data).takeWhile(a -> a < size / 2).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void skipIterator(Blackhole blackhole) {
+    vector.intoIterator().skip(size / 2).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void skipStream(Blackhole blackhole) {
+    Arrays.stream(data).skip(size / 2).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void skipWhileIterator(Blackhole blackhole) {
+    vector.intoIterator().skipWhile(a -> a < size / 2).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void skipWhileStream(Blackhole blackhole) {
+    Arrays.stream(data).dropWhile(a -> a < size / 2).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void reverseIterator(Blackhole blackhole) {
+    vector.intoIterator().reverse().forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void reverseStream(Blackhole blackhole) {
+    IntStream.range(0, size).mapToObj(i -> data[size - 1 - i]).forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public Vector<Integer> collectIterator() {
+    return Vector.collect(vector.intoIterator().map(a -> a + 1));
+  }
+
+  @Benchmark
+  public List<Integer> collectStream() {
+    return Arrays.stream(data).map(a -> a + 1).toList();
+  }
+}
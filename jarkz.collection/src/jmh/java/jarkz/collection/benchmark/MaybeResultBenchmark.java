@@ -0,0 +1,101 @@
+package jarkz.collection.benchmark;
+
+import jarkz.collection.maybe.Maybe;
+import jarkz.collection.result.Result;
+import jarkz.collection.unit.Unit;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the common chains of {@link Maybe} and {@link Result} and compares them with {@link
+ * Optional}. Run it with {@code -prof gc} to see allocations per operation.
+ *
+ * <p>The benchmarks with {@code NoAlloc} suffix cover the paths which reuse shared or existing
+ * instances, so their {@code gc.alloc.rate.norm} must stay at zero bytes per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaybeResultBenchmark {
+
+  private Integer value = 42;
+  private Integer missing = null;
+  private String error = "error";
+  private Maybe<Integer> some = Maybe.Some(value);
+  private Result<Integer, String> ok = Result.Ok(value);
+  private Result<Integer, String> err = Result.Err(error);
+
+  @Benchmark
+  public int maybeSomeChain() {
+    return Maybe.from(value).map(a -> a + 1).filter(a -> a > 0).unwrapOr(0);
+  }
+
+  @Benchmark
+  public int maybeNoneChain() {
+    return Maybe.from(missing).map(a -> a + 1).filter(a -> a > 0).unwrapOr(0);
+  }
+
+  @Benchmark
+  public int optionalSomeChain() {
+    return Optional.ofNullable(value).map(a -> a + 1).filter(a -> a > 0).orElse(0);
+  }
+
+  @Benchmark
+  public int optionalNoneChain() {
+    return Optional.ofNullable(missing).map(a -> a + 1).filter(a -> a > 0).orElse(0);
+  }
+
+  @Benchmark
+  public int resultOkChain() {
+    return Result.<Integer, String>Ok(value)
+        .map(a -> a + 1)
+        .andThen(a -> a > 0 ? Result.Ok(a) : Result.Err("negative"))
+        .unwrapOr(0);
+  }
+
+  @Benchmark
+  public int resultErrChain() {
+    return Result.<Integer, String>Err(error)
+        .map(a -> a + 1)
+        .andThen(a -> a > 0 ? Result.Ok(a) : Result.Err("negative"))
+        .mapErr(String::length)
+        .unwrapOr(0);
+  }
+
+  @Benchmark
+  public boolean maybeNoneNoAlloc() {
+    return Maybe.<Integer>none().map(a -> a + 1).filter(a -> a > 0).or(Maybe.none()).isSome();
+  }
+
+  @Benchmark
+  public int maybeSomePassThroughNoAlloc() {
+    return some.filter(a -> a > 0).or(Maybe.none()).unwrapOr(0);
+  }
+
+  @Benchmark
+  public boolean resultOkUnitNoAlloc() {
+    return Result.<String>Ok().and(Result.<String>Ok()).isOk();
+  }
+
+  @Benchmark
+  public int resultErrPassThroughNoAlloc() {
+    return err.map(a -> a + 1).and(ok).andThen(a -> Result.<Integer, String>Ok(a)).unwrapOr(0);
+  }
+
+  @Benchmark
+  public int resultOkPassThroughNoAlloc() {
+    return ok.mapErr(String::length).orElse(() -> Result.Err(0)).map(a -> a).unwrapOr(0);
+  }
+}
@@ -0,0 +1,92 @@
+package jarkz.collection.benchmark;
+
+import jarkz.collection.vector.IntVector;
+import jarkz.collection.vector.Vector;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the sorts of {@link Vector} and {@link IntVector} with {@link Arrays#sort}. Every
+ * invocation sorts a fresh copy of the same random data.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortBenchmark {
+
+  @Param({"1000", "1000000"})
+  private int size;
+
+  private Integer[] data;
+  private int[] primitives;
+  private Vector<Integer> vector;
+  private IntVector intVector;
+  private Integer[] array;
+
+  @Setup
+  public void setup() {
+    var random = new Random(42);
+    primitives = random.ints(size).toArray();
+    data = Arrays.stream(primitives).boxed().toArray(Integer[]::new);
+  }
+
+  @Setup(Level.Invocation)
+  public void copy() {
+    vector = new Vector<>(data);
+    intVector = new IntVector(primitives);
+    array = data.clone();
+  }
+
+  @Benchmark
+  public Vector<Integer> vectorSort() {
+    vector.sort();
+    return vector;
+  }
+
+  @Benchmark
+  public Vector<Integer> vectorSortUnstable() {
+    vector.sortUnstable();
+    return vector;
+  }
+
+  @Benchmark
+  public Vector<Integer> vectorParallelSort() {
+    vector.parallelSort();
+    return vector;
+  }
+
+  @Benchmark
+  public Integer[] arraysSort() {
+    Arrays.sort(array);
+    return array;
+  }
+
+  @Benchmark
+  public IntVector intVectorSort() {
+    intVector.sort();
+    return intVector;
+  }
+
+  @Benchmark
+  public int[] arraysSortInt() {
+    var copy = primitives.clone();
+    Arrays.sort(copy);
+    return copy;
+  }
+}
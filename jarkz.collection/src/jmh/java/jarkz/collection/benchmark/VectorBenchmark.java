@@ -0,0 +1,109 @@
+package jarkz.collection.benchmark;
+
+import jarkz.collection.vector.Vector;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/** Compares the basic operations of {@link Vector} with {@link ArrayList}. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VectorBenchmark {
+
+  @Param({"1000", "1000000"})
+  private int size;
+
+  private Integer[] data;
+  private Vector<Integer> vector;
+  private ArrayList<Integer> arrayList;
+
+  @Setup
+  public void setup() {
+    data = IntStream.range(0, size).boxed().toArray(Integer[]::new);
+    vector = new Vector<>(data);
+    arrayList = new ArrayList<>(vector.len());
+    for (var element : data) {
+      arrayList.add(element);
+    }
+  }
+
+  @Benchmark
+  public Vector<Integer> vectorPush() {
+    var result = new Vector<Integer>();
+    for (var element : data) {
+      result.push(element);
+    }
+
+    return result;
+  }
+
+  @Benchmark
+  public ArrayList<Integer> arrayListAdd() {
+    var result = new ArrayList<Integer>();
+    for (var element : data) {
+      result.add(element);
+    }
+
+    return result;
+  }
+
+  @Benchmark
+  public void vectorPushPop(Blackhole blackhole) {
+    var result = new Vector<Integer>();
+    for (var element : data) {
+      result.push(element);
+    }
+
+    while (!result.isEmpty()) {
+      blackhole.consume(result.pop());
+    }
+  }
+
+  @Benchmark
+  public void arrayListAddRemove(Blackhole blackhole) {
+    var result = new ArrayList<Integer>();
+    for (var element : data) {
+      result.add(element);
+    }
+
+    while (!result.isEmpty()) {
+      blackhole.consume(result.remove(result.size() - 1));
+    }
+  }
+
+  @Benchmark
+  public long vectorAt() {
+    var sum = 0L;
+    for (int i = 0; i < size; i++) {
+      sum += vector.at(i).get();
+    }
+
+    return sum;
+  }
+
+  @Benchmark
+  public long arrayListGet() {
+    var sum = 0L;
+    for (int i = 0; i < size; i++) {
+      sum += arrayList.get(i);
+    }
+
+    return sum;
+  }
+}
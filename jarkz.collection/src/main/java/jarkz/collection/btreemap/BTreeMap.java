@@ -0,0 +1,483 @@
+package jarkz.collection.btreemap;
+
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.IntoIterator;
+import jarkz.collection.keyvalue.KeyValue;
+import jarkz.collection.maybe.Maybe;
+import java.util.Arrays;
+import java.util.Comparator;
+import lombok.NonNull;
+
+/**
+ * The sorted map on B+ tree. Each node holds up to {@link #MAX_KEYS} keys in a flat array, so the
+ * lookup touches only a few nodes and searches inside of them by binary search. All entries live
+ * in leaves which are linked with each other, so range scans walk the leaves in both directions
+ * without going back to the root.
+ *
+ * <p>Every node except the root holds at least {@link #MIN_KEYS} keys: the removal borrows keys from
+ * a sibling of underfull node or merges them, so the tree shrinks together with the map.
+ *
+ * <p>> <b>Attention</b>: iterators are invalid after any change of map.
+ */
+public class BTreeMap<K, V>
+    implements IntoIterator<KeyValue<K, V>, DoubleEndedIterator<KeyValue<K, V>>> {
+  static final int MAX_KEYS = 64;
+  static final int MIN_KEYS = MAX_KEYS / 2;
+
+  private final Comparator<Object> comparator;
+  private Node root;
+  private Leaf first;
+  private Leaf last;
+  private int len;
+
+  // The result of split which the insertion passes to the parent node
+  private Object splitKey;
+  private Node splitRight;
+
+  /** Creates the map which sorts keys by their natural order. */
+  public BTreeMap() {
+    this(null);
+  }
+
+  /** Creates the map which sorts keys by given comparator or by natural order if it's null. */
+  @SuppressWarnings("unchecked")
+  public BTreeMap(Comparator<? super K> comparator) {
+    // SAFETY: the comparator is applied only to keys of type K
+    this.comparator =
+        (Comparator<Object>)
+            (comparator == null ? Comparator.<Comparable<Object>>naturalOrder() : comparator);
+    clear();
+  }
+
+  abstract static sealed class Node permits Leaf, Inner {
+    final Object[] keys = new Object[MAX_KEYS + 1];
+    int len;
+  }
+
+  static final class Leaf extends Node {
+    final Object[] values = new Object[MAX_KEYS + 1];
+    Leaf next;
+    Leaf previous;
+  }
+
+  static final class Inner extends Node {
+    final Node[] children = new Node[MAX_KEYS + 2];
+  }
+
+  public int len() {
+    return len;
+  }
+
+  public boolean isEmpty() {
+    return len == 0;
+  }
+
+  @SuppressWarnings("unchecked")
+  public Maybe<V> get(@NonNull K key) {
+    var leaf = findLeaf(key);
+    var index = search(leaf, key);
+    if (index < 0) {
+      return Maybe.None();
+    }
+
+    // SAFETY: the leaf holds only values of type V
+    return Maybe.Some((V) leaf.values[index]);
+  }
+
+  public boolean containsKey(@NonNull K key) {
+    var leaf = findLeaf(key);
+    return search(leaf, key) >= 0;
+  }
+
+  /** Inserts the value by key and returns the previous value if the key was present. */
+  @SuppressWarnings("unchecked")
+  public Maybe<V> insert(@NonNull K key, @NonNull V value) {
+    var previous = insertInto(root, key, value);
+    if (splitRight != null) {
+      var newRoot = new Inner();
+      newRoot.keys[0] = splitKey;
+      newRoot.children[0] = root;
+      newRoot.children[1] = splitRight;
+      newRoot.len = 1;
+      root = newRoot;
+      splitKey = null;
+      splitRight = null;
+    }
+
+    // SAFETY: the leaf holds only values of type V
+    return Maybe.from((V) previous);
+  }
+
+  /** Removes the entry by key and returns its value if the key was present. */
+  @SuppressWarnings("unchecked")
+  public Maybe<V> remove(@NonNull K key) {
+    var value = removeFrom(root, key);
+    if (root instanceof Inner inner && inner.len == 0) {
+      root = inner.children[0];
+    }
+
+    // SAFETY: the leaf holds only values of type V
+    return Maybe.from((V) value);
+  }
+
+  /** Returns the smallest key if the map is not empty. */
+  @SuppressWarnings("unchecked")
+  public Maybe<K> firstKey() {
+    if (isEmpty()) {
+      return Maybe.None();
+    }
+
+    // SAFETY: the leaf holds only keys of type K
+    return Maybe.Some((K) first.keys[0]);
+  }
+
+  /** Returns the greatest key if the map is not empty. */
+  @SuppressWarnings("unchecked")
+  public Maybe<K> lastKey() {
+    if (isEmpty()) {
+      return Maybe.None();
+    }
+
+    // SAFETY: the leaf holds only keys of type K
+    return Maybe.Some((K) last.keys[last.len - 1]);
+  }
+
+  public void clear() {
+    var leaf = new Leaf();
+    root = leaf;
+    first = leaf;
+    last = leaf;
+    len = 0;
+  }
+
+  /**
+   * Returns the iterator over entries which keys are between from (inclusive) and to (exclusive)
+   * in ascending order. It finds only bounds of range and reads entries lazily, so {@link
+   * DoubleEndedIterator#reverse()} gives descending scan without any copying.
+   */
+  public DoubleEndedIterator<KeyValue<K, V>> range(@NonNull K from, @NonNull K to) {
+    if (comparator.compare(from, to) > 0) {
+      throw new IllegalArgumentException("The start of range is greater than its end!");
+    }
+
+    var frontLeaf = findLeaf(from);
+    var frontIndex = lowerBound(frontLeaf, from);
+    var backLeaf = findLeaf(to);
+    var backIndex = lowerBound(backLeaf, to);
+    return new IterBTreeMap<>(frontLeaf, frontIndex, backLeaf, backIndex, -1, len);
+  }
+
+  /** Returns the iterator over all entries in ascending order. */
+  @Override
+  public DoubleEndedIterator<KeyValue<K, V>> intoIterator() {
+    return new IterBTreeMap<>(first, 0, last, last.len, len, len);
+  }
+
+  private Leaf findLeaf(Object key) {
+    var node = root;
+    while (node instanceof Inner inner) {
+      node = inner.children[childIndex(inner, key)];
+    }
+
+    return (Leaf) node;
+  }
+
+  /** The child i holds keys which are not less than key i-1 and less than key i. */
+  private int childIndex(Inner inner, Object key) {
+    var index = search(inner, key);
+    return index >= 0 ? index + 1 : -index - 1;
+  }
+
+  private int search(Node node, Object key) {
+    return Arrays.binarySearch(node.keys, 0, node.len, key, comparator);
+  }
+
+  /** The index of first key which is not less than given one. */
+  private int lowerBound(Leaf leaf, Object key) {
+    var index = search(leaf, key);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  /**
+   * Inserts the entry into subtree and returns the previous value or null. If the node overflows,
+   * it splits and leaves its new right sibling in {@link #splitRight}.
+   */
+  private Object insertInto(Node node, Object key, Object value) {
+    if (node instanceof Leaf leaf) {
+      return insertIntoLeaf(leaf, key, value);
+    }
+
+    var inner = (Inner) node;
+    var childIndex = childIndex(inner, key);
+    var previous = insertInto(inner.children[childIndex], key, value);
+    if (splitRight == null) {
+      return previous;
+    }
+
+    var moved = inner.len - childIndex;
+    System.arraycopy(inner.keys, childIndex, inner.keys, childIndex + 1, moved);
+    System.arraycopy(inner.children, childIndex + 1, inner.children, childIndex + 2, moved);
+    inner.keys[childIndex] = splitKey;
+    inner.children[childIndex + 1] = splitRight;
+    inner.len += 1;
+    splitKey = null;
+    splitRight = null;
+
+    if (inner.len > MAX_KEYS) {
+      splitInner(inner);
+    }
+
+    return previous;
+  }
+
+  private Object insertIntoLeaf(Leaf leaf, Object key, Object value) {
+    var index = search(leaf, key);
+    if (index >= 0) {
+      var previous = leaf.values[index];
+      leaf.values[index] = value;
+      return previous;
+    }
+
+    index = -index - 1;
+    var moved = leaf.len - index;
+    System.arraycopy(leaf.keys, index, leaf.keys, index + 1, moved);
+    System.arraycopy(leaf.values, index, leaf.values, index + 1, moved);
+    leaf.keys[index] = key;
+    leaf.values[index] = value;
+    leaf.len += 1;
+    len += 1;
+
+    if (leaf.len > MAX_KEYS) {
+      splitLeaf(leaf);
+    }
+
+    return null;
+  }
+
+  private void splitLeaf(Leaf leaf) {
+    var middle = leaf.len / 2;
+    var right = new Leaf();
+    right.len = leaf.len - middle;
+    System.arraycopy(leaf.keys, middle, right.keys, 0, right.len);
+    System.arraycopy(leaf.values, middle, right.values, 0, right.len);
+    Arrays.fill(leaf.keys, middle, leaf.len, null);
+    Arrays.fill(leaf.values, middle, leaf.len, null);
+    leaf.len = middle;
+
+    right.previous = leaf;
+    right.next = leaf.next;
+    if (leaf.next != null) {
+      leaf.next.previous = right;
+    } else {
+      last = right;
+    }
+    leaf.next = right;
+
+    splitKey = right.keys[0];
+    splitRight = right;
+  }
+
+  private void splitInner(Inner inner) {
+    var middle = inner.len / 2;
+    var right = new Inner();
+    right.len = inner.len - middle - 1;
+    System.arraycopy(inner.keys, middle + 1, right.keys, 0, right.len);
+    System.arraycopy(inner.children, middle + 1, right.children, 0, right.len + 1);
+
+    // The middle key moves up to the parent
+    splitKey = inner.keys[middle];
+    splitRight = right;
+    Arrays.fill(inner.keys, middle, inner.len, null);
+    Arrays.fill(inner.children, middle + 1, inner.len + 1, null);
+    inner.len = middle;
+  }
+
+  /**
+   * Removes the entry from subtree and returns its value or null. The underfull children are
+   * rebalanced on the way back, and the separator equal to removed key is replaced, so the inner
+   * nodes don't keep references to removed keys.
+   */
+  private Object removeFrom(Node node, Object key) {
+    if (node instanceof Leaf leaf) {
+      return removeFromLeaf(leaf, key);
+    }
+
+    var inner = (Inner) node;
+    var childIndex = childIndex(inner, key);
+    var child = inner.children[childIndex];
+    var value = removeFrom(child, key);
+    if (value == null) {
+      return null;
+    }
+
+    if (childIndex > 0 && comparator.compare(inner.keys[childIndex - 1], key) == 0) {
+      inner.keys[childIndex - 1] = firstKey(child);
+    }
+
+    if (child.len < MIN_KEYS) {
+      rebalance(inner, childIndex);
+    }
+
+    return value;
+  }
+
+  private Object removeFromLeaf(Leaf leaf, Object key) {
+    var index = search(leaf, key);
+    if (index < 0) {
+      return null;
+    }
+
+    var value = leaf.values[index];
+    var moved = leaf.len - index - 1;
+    System.arraycopy(leaf.keys, index + 1, leaf.keys, index, moved);
+    System.arraycopy(leaf.values, index + 1, leaf.values, index, moved);
+    leaf.len -= 1;
+    leaf.keys[leaf.len] = null;
+    leaf.values[leaf.len] = null;
+    len -= 1;
+    return value;
+  }
+
+  private static Object firstKey(Node node) {
+    while (node instanceof Inner inner) {
+      node = inner.children[0];
+    }
+
+    return node.keys[0];
+  }
+
+  /**
+   * Fixes the underfull child of parent: borrows a key from the sibling which has spare ones or
+   * merges the child with a sibling otherwise.
+   */
+  private void rebalance(Inner parent, int childIndex) {
+    var child = parent.children[childIndex];
+    var left = childIndex > 0 ? parent.children[childIndex - 1] : null;
+    var right = childIndex < parent.len ? parent.children[childIndex + 1] : null;
+
+    if (left != null && left.len > MIN_KEYS) {
+      if (child instanceof Leaf leaf) {
+        borrowFromLeft(parent, childIndex, (Leaf) left, leaf);
+      } else {
+        borrowFromLeft(parent, childIndex, (Inner) left, (Inner) child);
+      }
+    } else if (right != null && right.len > MIN_KEYS) {
+      if (child instanceof Leaf leaf) {
+        borrowFromRight(parent, childIndex, leaf, (Leaf) right);
+      } else {
+        borrowFromRight(parent, childIndex, (Inner) child, (Inner) right);
+      }
+    } else if (left != null) {
+      merge(parent, childIndex - 1);
+    } else {
+      merge(parent, childIndex);
+    }
+  }
+
+  private void borrowFromLeft(Inner parent, int childIndex, Leaf left, Leaf leaf) {
+    System.arraycopy(leaf.keys, 0, leaf.keys, 1, leaf.len);
+    System.arraycopy(leaf.values, 0, leaf.values, 1, leaf.len);
+    left.len -= 1;
+    leaf.keys[0] = left.keys[left.len];
+    leaf.values[0] = left.values[left.len];
+    left.keys[left.len] = null;
+    left.values[left.len] = null;
+    leaf.len += 1;
+    parent.keys[childIndex - 1] = leaf.keys[0];
+  }
+
+  private void borrowFromRight(Inner parent, int childIndex, Leaf leaf, Leaf right) {
+    leaf.keys[leaf.len] = right.keys[0];
+    leaf.values[leaf.len] = right.values[0];
+    leaf.len += 1;
+    right.len -= 1;
+    System.arraycopy(right.keys, 1, right.keys, 0, right.len);
+    System.arraycopy(right.values, 1, right.values, 0, right.len);
+    right.keys[right.len] = null;
+    right.values[right.len] = null;
+    parent.keys[childIndex] = right.keys[0];
+  }
+
+  /** Rotates the last child of left sibling through the separator in parent. */
+  private void borrowFromLeft(Inner parent, int childIndex, Inner left, Inner inner) {
+    System.arraycopy(inner.keys, 0, inner.keys, 1, inner.len);
+    System.arraycopy(inner.children, 0, inner.children, 1, inner.len + 1);
+    inner.keys[0] = parent.keys[childIndex - 1];
+    inner.children[0] = left.children[left.len];
+    inner.len += 1;
+
+    parent.keys[childIndex - 1] = left.keys[left.len - 1];
+    left.keys[left.len - 1] = null;
+    left.children[left.len] = null;
+    left.len -= 1;
+  }
+
+  /** Rotates the first child of right sibling through the separator in parent. */
+  private void borrowFromRight(Inner parent, int childIndex, Inner inner, Inner right) {
+    inner.keys[inner.len] = parent.keys[childIndex];
+    inner.children[inner.len + 1] = right.children[0];
+    inner.len += 1;
+
+    parent.keys[childIndex] = right.keys[0];
+    System.arraycopy(right.keys, 1, right.keys, 0, right.len - 1);
+    System.arraycopy(right.children, 1, right.children, 0, right.len);
+    right.len -= 1;
+    right.keys[right.len] = null;
+    right.children[right.len + 1] = null;
+  }
+
+  /** Merges the child at given index with the next one and removes their separator from parent. */
+  private void merge(Inner parent, int index) {
+    var left = parent.children[index];
+    var right = parent.children[index + 1];
+
+    if (left instanceof Leaf leftLeaf) {
+      var rightLeaf = (Leaf) right;
+      System.arraycopy(rightLeaf.keys, 0, leftLeaf.keys, leftLeaf.len, rightLeaf.len);
+      System.arraycopy(rightLeaf.values, 0, leftLeaf.values, leftLeaf.len, rightLeaf.len);
+      leftLeaf.len += rightLeaf.len;
+
+      leftLeaf.next = rightLeaf.next;
+      if (rightLeaf.next != null) {
+        rightLeaf.next.previous = leftLeaf;
+      } else {
+        last = leftLeaf;
+      }
+    } else {
+      var leftInner = (Inner) left;
+      var rightInner = (Inner) right;
+      leftInner.keys[leftInner.len] = parent.keys[index];
+      System.arraycopy(rightInner.keys, 0, leftInner.keys, leftInner.len + 1, rightInner.len);
+      System.arraycopy(
+          rightInner.children, 0, leftInner.children, leftInner.len + 1, rightInner.len + 1);
+      leftInner.len += rightInner.len + 1;
+    }
+
+    var moved = parent.len - index - 1;
+    System.arraycopy(parent.keys, index + 1, parent.keys, index, moved);
+    System.arraycopy(parent.children, index + 2, parent.children, index + 1, moved);
+    parent.len -= 1;
+    parent.keys[parent.len] = null;
+    parent.children[parent.len + 1] = null;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("BTreeMap{");
+    var isFirst = true;
+    for (var leaf = first; leaf != null; leaf = leaf.next) {
+      for (int i = 0; i < leaf.len; i++) {
+        if (!isFirst) {
+          builder.append(", ");
+        }
+
+        builder.append(leaf.keys[i]).append(": ").append(leaf.values[i]);
+        isFirst = false;
+      }
+    }
+
+    builder.append("}");
+    return builder.toString();
+  }
+}
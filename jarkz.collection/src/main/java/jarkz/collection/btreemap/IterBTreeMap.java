@@ -0,0 +1,153 @@
+package jarkz.collection.btreemap;
+
+import jarkz.collection.btreemap.BTreeMap.Leaf;
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.SizeHint;
+import jarkz.collection.keyvalue.KeyValue;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Walks the linked leaves of {@link BTreeMap} between two positions. The front position points to
+ * the next element and the back position points right after the last one.
+ */
+public class IterBTreeMap<K, V> implements DoubleEndedIterator<KeyValue<K, V>> {
+  private Leaf frontLeaf;
+  private int frontIndex;
+  private Leaf backLeaf;
+  private int backIndex;
+  // The exact count of remaining elements or -1 if it's unknown
+  private int remaining;
+  private int upperBound;
+
+  IterBTreeMap(
+      Leaf frontLeaf, int frontIndex, Leaf backLeaf, int backIndex, int remaining, int upperBound) {
+    this.frontLeaf = frontLeaf;
+    this.frontIndex = frontIndex;
+    this.backLeaf = backLeaf;
+    this.backIndex = backIndex;
+    this.remaining = remaining;
+    this.upperBound = upperBound;
+    normalize();
+  }
+
+  /**
+   * Moves the positions from the ends of leaves, so if they are in different leaves, both of them
+   * have elements to read. Then the iteration ends exactly when positions meet in one leaf.
+   */
+  private void normalize() {
+    while (frontLeaf != backLeaf && frontIndex == frontLeaf.len) {
+      frontLeaf = frontLeaf.next;
+      frontIndex = 0;
+    }
+
+    while (frontLeaf != backLeaf && backIndex == 0) {
+      backLeaf = backLeaf.previous;
+      backIndex = backLeaf.len;
+    }
+  }
+
+  private boolean isEnd() {
+    return frontLeaf == backLeaf && frontIndex >= backIndex;
+  }
+
+  private void consumed() {
+    upperBound -= 1;
+    if (remaining > 0) {
+      remaining -= 1;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private KeyValue<K, V> entry(Leaf leaf, int index) {
+    // SAFETY: the leaf holds only keys of type K and values of type V
+    return new KeyValue<>((K) leaf.keys[index], (V) leaf.values[index]);
+  }
+
+  private KeyValue<K, V> front() {
+    var element = entry(frontLeaf, frontIndex);
+    frontIndex += 1;
+    consumed();
+    normalize();
+    return element;
+  }
+
+  private KeyValue<K, V> back() {
+    backIndex -= 1;
+    var element = entry(backLeaf, backIndex);
+    consumed();
+    normalize();
+    return element;
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    if (isEnd()) {
+      return SizeHint.exact(0);
+    }
+
+    if (remaining >= 0) {
+      return SizeHint.exact(remaining);
+    }
+
+    return SizeHint.between(1, upperBound);
+  }
+
+  @Override
+  public Optional<KeyValue<K, V>> next() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(front());
+  }
+
+  @Override
+  public Optional<KeyValue<K, V>> nextBack() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(back());
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<KeyValue<K, V>> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    action.accept(front());
+    return true;
+  }
+
+  @Override
+  public boolean tryAdvanceBack(Consumer<KeyValue<K, V>> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    action.accept(back());
+    return true;
+  }
+
+  @Override
+  public void forEach(Consumer<KeyValue<K, V>> body) {
+    while (frontLeaf != backLeaf) {
+      for (int i = frontIndex; i < frontLeaf.len; i++) {
+        body.accept(entry(frontLeaf, i));
+      }
+
+      frontLeaf = frontLeaf.next;
+      frontIndex = 0;
+    }
+
+    for (int i = frontIndex; i < backIndex; i++) {
+      body.accept(entry(frontLeaf, i));
+    }
+
+    frontIndex = Math.max(frontIndex, backIndex);
+    remaining = 0;
+    upperBound = 0;
+  }
+}
@@ -0,0 +1,107 @@
+package jarkz.collection.hashmap;
+
+import jarkz.collection.maybe.Maybe;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import lombok.NonNull;
+
+/**
+ * The entry of {@link HashMap} by some key, which may be occupied by value or vacant. It remembers
+ * the probed slot, so all operations on entry don't hash the key again.
+ *
+ * <p>> <b>Attention</b>: the entry is valid only until the map is changed by other way.
+ */
+public class Entry<K, V> {
+  private final HashMap<K, V> map;
+  private final K key;
+  private final long hash;
+  private int index;
+
+  Entry(HashMap<K, V> map, K key, long hash, int index) {
+    this.map = map;
+    this.key = key;
+    this.hash = hash;
+    this.index = index;
+  }
+
+  public K key() {
+    return key;
+  }
+
+  /** True, if the map has the value by key of entry. */
+  public boolean isOccupied() {
+    return index >= 0;
+  }
+
+  public Maybe<V> get() {
+    if (!isOccupied()) {
+      return Maybe.None();
+    }
+
+    return Maybe.Some(map.valueAt(index));
+  }
+
+  /** Inserts the value and returns the previous one if the entry was occupied. */
+  public Maybe<V> insert(@NonNull V value) {
+    if (!isOccupied()) {
+      index = map.insertNew(hash, key, value);
+      return Maybe.None();
+    }
+
+    var previous = map.valueAt(index);
+    map.setValueAt(index, value);
+    return Maybe.Some(previous);
+  }
+
+  /** Returns the value if the entry is occupied, otherwise inserts the given one. */
+  public V orInsert(@NonNull V value) {
+    if (!isOccupied()) {
+      index = map.insertNew(hash, key, value);
+    }
+
+    return map.valueAt(index);
+  }
+
+  /**
+   * Returns the value if the entry is occupied, otherwise inserts the value from {@link Supplier}.
+   *
+   * <p>> <b>Note</b>: Use it if the computation of value is very expensive.
+   */
+  public V orInsertWith(@NonNull Supplier<V> supplier) {
+    if (!isOccupied()) {
+      var value = supplier.get();
+      if (value == null) {
+        throw new NullPointerException("The supplied value is null");
+      }
+
+      index = map.insertNew(hash, key, value);
+    }
+
+    return map.valueAt(index);
+  }
+
+  /** Replaces the value by result of modifier if the entry is occupied. */
+  public Entry<K, V> andModify(@NonNull UnaryOperator<V> modifier) {
+    if (isOccupied()) {
+      var value = modifier.apply(map.valueAt(index));
+      if (value == null) {
+        throw new NullPointerException("The modified value is null");
+      }
+
+      map.setValueAt(index, value);
+    }
+
+    return this;
+  }
+
+  /** Removes the value from map and returns it if the entry was occupied. */
+  public Maybe<V> remove() {
+    if (!isOccupied()) {
+      return Maybe.None();
+    }
+
+    var value = map.erase(index);
+    index = -1;
+    return Maybe.Some(value);
+  }
+}
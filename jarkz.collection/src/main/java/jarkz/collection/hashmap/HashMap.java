@@ -0,0 +1,387 @@
+package jarkz.collection.hashmap;
+
+import jarkz.collection.iterator.IntoIterator;
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.keyvalue.KeyValue;
+import jarkz.collection.maybe.Maybe;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import lombok.NonNull;
+
+/**
+ * The hash map with open addressing in Swiss table style. Keys and values are stored in flat
+ * arrays, and each slot has a control byte which tells whether the slot is empty, deleted or full.
+ * The full slot keeps 7 bits of hash in its control byte.
+ *
+ * <p>The lookup reads control bytes by groups of 8 as one long value and compares all of them with
+ * the hash bits at once, so it compares keys only for slots which almost surely match. There are
+ * no nodes per entry, so the map is compact and probing stays in the same cache lines.
+ *
+ * <p>> <b>Note</b>: the map can't hold null keys and values.
+ */
+public class HashMap<K, V> implements IntoIterator<KeyValue<K, V>, Iterator<KeyValue<K, V>>> {
+  static final int GROUP_WIDTH = Long.BYTES;
+  static final byte EMPTY = (byte) 0xFF;
+  static final byte DELETED = (byte) 0x80;
+
+  private static final long LSB = 0x0101010101010101L;
+  private static final long MSB = 0x8080808080808080L;
+  private static final int MAX_CAPACITY = 1 << 30;
+  private static final VarHandle GROUP =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+  // The map without allocated slots shares it, so lookup doesn't need a special case
+  private static final byte[] EMPTY_CONTROL = emptyControl(0);
+
+  private byte[] control;
+  private Object[] keys;
+  private Object[] values;
+  private int mask;
+  private int len;
+  private int growthLeft;
+
+  public HashMap() {
+    control = EMPTY_CONTROL;
+    keys = new Object[0];
+    values = new Object[0];
+    mask = 0;
+    len = 0;
+    growthLeft = 0;
+  }
+
+  /** Creates the empty map which can hold given count of entries without reallocation. */
+  public static <K, V> HashMap<K, V> withCapacity(int capacity) {
+    if (capacity < 0 || capacity > maxLoad(MAX_CAPACITY)) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+
+    var map = new HashMap<K, V>();
+    if (capacity > 0) {
+      map.allocate(slotsFor(capacity));
+    }
+
+    return map;
+  }
+
+  public int len() {
+    return len;
+  }
+
+  public boolean isEmpty() {
+    return len == 0;
+  }
+
+  /** The count of entries which map can hold without reallocation. */
+  public int capacity() {
+    return len + growthLeft;
+  }
+
+  @SuppressWarnings("unchecked")
+  public Maybe<V> get(@NonNull K key) {
+    var index = find(key, hash(key));
+    if (index < 0) {
+      return Maybe.None();
+    }
+
+    // SAFETY: the full slot always holds the value of type V
+    return Maybe.Some((V) values[index]);
+  }
+
+  public boolean containsKey(@NonNull K key) {
+    return find(key, hash(key)) >= 0;
+  }
+
+  /** Inserts the value by key and returns the previous value if the key was present. */
+  @SuppressWarnings("unchecked")
+  public Maybe<V> insert(@NonNull K key, @NonNull V value) {
+    var hash = hash(key);
+    var index = find(key, hash);
+    if (index >= 0) {
+      // SAFETY: the full slot always holds the value of type V
+      var previous = (V) values[index];
+      values[index] = value;
+      return Maybe.Some(previous);
+    }
+
+    insertNew(hash, key, value);
+    return Maybe.None();
+  }
+
+  /** Removes the entry by key and returns its value if the key was present. */
+  public Maybe<V> remove(@NonNull K key) {
+    var index = find(key, hash(key));
+    if (index < 0) {
+      return Maybe.None();
+    }
+
+    return Maybe.Some(erase(index));
+  }
+
+  /**
+   * Returns the entry of key for in-place manipulation, so the code like "get or insert" hashes
+   * and probes only once.
+   */
+  public Entry<K, V> entry(@NonNull K key) {
+    var hash = hash(key);
+    return new Entry<>(this, key, hash, find(key, hash));
+  }
+
+  /** Removes all entries, but keeps the allocated slots. */
+  public void clear() {
+    if (control == EMPTY_CONTROL) {
+      return;
+    }
+
+    Arrays.fill(control, EMPTY);
+    Arrays.fill(keys, null);
+    Arrays.fill(values, null);
+    len = 0;
+    growthLeft = maxLoad(keys.length);
+  }
+
+  /** Returns the iterator over entries in unspecified order. */
+  @Override
+  public Iterator<KeyValue<K, V>> intoIterator() {
+    return new IterHashMap<K, V, KeyValue<K, V>>(control, keys, values, len, KeyValue::new);
+  }
+
+  /** Returns the iterator over keys in unspecified order. */
+  public Iterator<K> keys() {
+    return new IterHashMap<K, V, K>(control, keys, values, len, (key, value) -> key);
+  }
+
+  /** Returns the iterator over values in unspecified order. */
+  public Iterator<V> values() {
+    return new IterHashMap<K, V, V>(control, keys, values, len, (key, value) -> value);
+  }
+
+  static long group(byte[] control, int position) {
+    return (long) GROUP.get(control, position);
+  }
+
+  /** Marks the high bit of each byte in group which holds a full slot. */
+  static long matchFull(long group) {
+    return ~group & MSB;
+  }
+
+  private static long matchEmpty(long group) {
+    return group & (group << 1) & MSB;
+  }
+
+  private static long matchEmptyOrDeleted(long group) {
+    return group & MSB;
+  }
+
+  /**
+   * Marks the high bit of each byte in group which equals to given hash bits. It may mark the byte
+   * which doesn't match, if it is placed after matched one, so keys must be compared anyway.
+   */
+  private static long matchByte(long group, int h2) {
+    var cmp = group ^ (LSB * h2);
+    return (cmp - LSB) & ~cmp & MSB;
+  }
+
+  private static int lowestByte(long bits) {
+    return Long.numberOfTrailingZeros(bits) >>> 3;
+  }
+
+  private static long hash(Object key) {
+    var hash = key.hashCode() * 0x9E3779B97F4A7C15L;
+    return hash ^ (hash >>> 32);
+  }
+
+  /** The position of probing start. */
+  private static int h1(long hash) {
+    return (int) hash;
+  }
+
+  /** The hash bits which are stored in the control byte. */
+  private static byte h2(long hash) {
+    return (byte) (hash >>> 57);
+  }
+
+  int find(Object key, long hash) {
+    if (len == 0) {
+      return -1;
+    }
+
+    var h2 = h2(hash);
+    var position = h1(hash) & mask;
+    var stride = 0;
+    while (true) {
+      var group = group(control, position);
+      for (var bits = matchByte(group, h2); bits != 0; bits &= bits - 1) {
+        var index = (position + lowestByte(bits)) & mask;
+        if (key.equals(keys[index])) {
+          return index;
+        }
+      }
+
+      if (matchEmpty(group) != 0) {
+        return -1;
+      }
+
+      // Triangular probing visits each group exactly once, because the count of groups is a
+      // power of two
+      stride += GROUP_WIDTH;
+      position = (position + stride) & mask;
+    }
+  }
+
+  private int findInsertSlot(long hash) {
+    var position = h1(hash) & mask;
+    var stride = 0;
+    while (true) {
+      var bits = matchEmptyOrDeleted(group(control, position));
+      if (bits != 0) {
+        return (position + lowestByte(bits)) & mask;
+      }
+
+      stride += GROUP_WIDTH;
+      position = (position + stride) & mask;
+    }
+  }
+
+  int insertNew(long hash, K key, V value) {
+    var index = findInsertSlot(hash);
+    if (growthLeft == 0 && control[index] == EMPTY) {
+      rehash();
+      index = findInsertSlot(hash);
+    }
+
+    if (control[index] == EMPTY) {
+      growthLeft -= 1;
+    }
+
+    setControl(index, h2(hash));
+    keys[index] = key;
+    values[index] = value;
+    len += 1;
+    return index;
+  }
+
+  @SuppressWarnings("unchecked")
+  V erase(int index) {
+    // If some group which holds this slot has no empty slots, the probing could go through it, so
+    // the slot must stay as deleted to not break the probe sequence of other keys
+    var emptyBefore = matchEmpty(group(control, (index - GROUP_WIDTH) & mask));
+    var emptyAfter = matchEmpty(group(control, index));
+    var fullAround =
+        (Long.numberOfLeadingZeros(emptyBefore) >>> 3)
+            + (Long.numberOfTrailingZeros(emptyAfter) >>> 3);
+    if (fullAround >= GROUP_WIDTH) {
+      setControl(index, DELETED);
+    } else {
+      setControl(index, EMPTY);
+      growthLeft += 1;
+    }
+
+    // SAFETY: the full slot always holds the value of type V
+    var value = (V) values[index];
+    keys[index] = null;
+    values[index] = null;
+    len -= 1;
+    return value;
+  }
+
+  @SuppressWarnings("unchecked")
+  V valueAt(int index) {
+    // SAFETY: the full slot always holds the value of type V
+    return (V) values[index];
+  }
+
+  void setValueAt(int index, V value) {
+    values[index] = value;
+  }
+
+  /** Sets the control byte and its mirror which lets read the last group past the end. */
+  private void setControl(int index, byte value) {
+    control[index] = value;
+    control[((index - GROUP_WIDTH) & mask) + GROUP_WIDTH] = value;
+  }
+
+  /**
+   * Grows the map or only drops deleted slots if they take the most of place, so the repeating
+   * inserts and removes don't grow the map infinitely.
+   */
+  private void rehash() {
+    var slots = keys.length;
+    var required = len + 1;
+    if (required > maxLoad(slots) / 2) {
+      required = Math.max(required, maxLoad(slots) + 1);
+    }
+
+    var newSlots = slotsFor(required);
+    if (newSlots > MAX_CAPACITY) {
+      throw new IllegalStateException("The map is out of capacity!");
+    }
+
+    var oldControl = control;
+    var oldKeys = keys;
+    var oldValues = values;
+    allocate(newSlots);
+
+    for (int i = 0; i < slots; i++) {
+      if (oldControl[i] >= 0) {
+        var hash = hash(oldKeys[i]);
+        var index = findInsertSlot(hash);
+        setControl(index, h2(hash));
+        keys[index] = oldKeys[i];
+        values[index] = oldValues[i];
+      }
+    }
+
+    growthLeft -= len;
+  }
+
+  private void allocate(int slots) {
+    control = emptyControl(slots);
+    keys = new Object[slots];
+    values = new Object[slots];
+    mask = slots - 1;
+    growthLeft = maxLoad(slots);
+  }
+
+  private static byte[] emptyControl(int slots) {
+    var control = new byte[slots + GROUP_WIDTH];
+    Arrays.fill(control, EMPTY);
+    return control;
+  }
+
+  /** The map keeps at least 1/8 of slots empty, so any probing finishes. */
+  private static int maxLoad(int slots) {
+    return slots - slots / 8;
+  }
+
+  private static int slotsFor(int capacity) {
+    var slots = GROUP_WIDTH;
+    while (maxLoad(slots) < capacity) {
+      slots <<= 1;
+    }
+
+    return slots;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("HashMap{");
+    var first = true;
+    for (int i = 0; i < keys.length; i++) {
+      if (control[i] < 0) {
+        continue;
+      }
+
+      if (!first) {
+        builder.append(", ");
+      }
+
+      builder.append(keys[i]).append(": ").append(values[i]);
+      first = false;
+    }
+
+    builder.append("}");
+    return builder.toString();
+  }
+}
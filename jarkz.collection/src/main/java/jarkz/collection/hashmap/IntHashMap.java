@@ -0,0 +1,296 @@
+package jarkz.collection.hashmap;
+
+import jarkz.collection.iterator.IntoIterator;
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.IntIterator;
+import jarkz.collection.keyvalue.KeyValue;
+import jarkz.collection.maybe.Maybe;
+import java.util.Arrays;
+import java.util.function.IntFunction;
+import lombok.NonNull;
+
+/**
+ * The hash map with {@code int} keys which never boxes them. Keys and values are stored in
+ * parallel arrays with linear probing, so each entry takes one int and one reference.
+ *
+ * <p>The slot is empty when it has no value, so any int can be a key without reserving a
+ * sentinel. The removal shifts the following entries back instead of leaving tombstones, so
+ * lookups never slow down after many removals.
+ *
+ * <p>> <b>Note</b>: the map can't hold null values.
+ */
+public class IntHashMap<V>
+    implements IntoIterator<KeyValue<Integer, V>, Iterator<KeyValue<Integer, V>>> {
+  private static final int MIN_SLOTS = 8;
+  private static final int MAX_SLOTS = 1 << 30;
+
+  private int[] keys;
+  private Object[] values;
+  private int mask;
+  private int shift;
+  private int len;
+
+  public IntHashMap() {
+    keys = new int[0];
+    values = new Object[0];
+    mask = 0;
+    shift = 0;
+    len = 0;
+  }
+
+  /** Creates the empty map which can hold given count of entries without reallocation. */
+  public static <V> IntHashMap<V> withCapacity(int capacity) {
+    if (capacity < 0 || capacity > maxLoad(MAX_SLOTS)) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+
+    var map = new IntHashMap<V>();
+    if (capacity > 0) {
+      map.allocate(slotsFor(capacity));
+    }
+
+    return map;
+  }
+
+  public int len() {
+    return len;
+  }
+
+  public boolean isEmpty() {
+    return len == 0;
+  }
+
+  /** The count of entries which map can hold without reallocation. */
+  public int capacity() {
+    return maxLoad(keys.length);
+  }
+
+  @SuppressWarnings("unchecked")
+  public Maybe<V> get(int key) {
+    var index = find(key);
+    if (index < 0) {
+      return Maybe.None();
+    }
+
+    // SAFETY: the full slot always holds the value of type V
+    return Maybe.Some((V) values[index]);
+  }
+
+  public boolean containsKey(int key) {
+    return find(key) >= 0;
+  }
+
+  /** Inserts the value by key and returns the previous value if the key was present. */
+  @SuppressWarnings("unchecked")
+  public Maybe<V> insert(int key, @NonNull V value) {
+    var index = probeForInsert(key);
+    // SAFETY: the slot holds the value of type V or nothing
+    var previous = (V) values[index];
+    if (previous == null) {
+      keys[index] = key;
+      len += 1;
+    }
+
+    values[index] = value;
+    return Maybe.from(previous);
+  }
+
+  /**
+   * Returns the value by key or inserts the value computed from key, so it probes the slots only
+   * once.
+   */
+  @SuppressWarnings("unchecked")
+  public V getOrInsertWith(int key, @NonNull IntFunction<V> supplier) {
+    var index = probeForInsert(key);
+    if (values[index] == null) {
+      var value = supplier.apply(key);
+      if (value == null) {
+        throw new NullPointerException("The supplied value is null");
+      }
+
+      keys[index] = key;
+      values[index] = value;
+      len += 1;
+    }
+
+    // SAFETY: the full slot always holds the value of type V
+    return (V) values[index];
+  }
+
+  /** Removes the entry by key and returns its value if the key was present. */
+  @SuppressWarnings("unchecked")
+  public Maybe<V> remove(int key) {
+    var index = find(key);
+    if (index < 0) {
+      return Maybe.None();
+    }
+
+    // SAFETY: the full slot always holds the value of type V
+    var value = (V) values[index];
+    shiftBack(index);
+    len -= 1;
+    return Maybe.Some(value);
+  }
+
+  /** Removes all entries, but keeps the allocated slots. */
+  public void clear() {
+    Arrays.fill(values, null);
+    len = 0;
+  }
+
+  /** Returns the iterator over entries in unspecified order. It boxes the keys. */
+  @Override
+  @SuppressWarnings("unchecked")
+  public Iterator<KeyValue<Integer, V>> intoIterator() {
+    var keys = this.keys;
+    var values = this.values;
+    // SAFETY: the full slot always holds the value of type V
+    return new IterSlots<>(
+        keys.length, i -> values[i] != null, i -> new KeyValue<>(keys[i], (V) values[i]), len);
+  }
+
+  /** Returns the iterator over keys in unspecified order. */
+  public IntIterator keys() {
+    var keys = this.keys;
+    var values = this.values;
+    return new IterIntSlots(keys.length, i -> values[i] != null, i -> keys[i], len);
+  }
+
+  /** Returns the iterator over values in unspecified order. */
+  @SuppressWarnings("unchecked")
+  public Iterator<V> values() {
+    var values = this.values;
+    // SAFETY: the full slot always holds the value of type V
+    return new IterSlots<>(values.length, i -> values[i] != null, i -> (V) values[i], len);
+  }
+
+  private int home(int key) {
+    return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+  }
+
+  private int find(int key) {
+    if (len == 0) {
+      return -1;
+    }
+
+    for (var index = home(key); values[index] != null; index = (index + 1) & mask) {
+      if (keys[index] == key) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Returns the slot which has given key or the empty slot where the key must be placed. It grows
+   * the map before, if the key is new and there is no room for one more entry.
+   */
+  private int probeForInsert(int key) {
+    if (len == maxLoad(keys.length)) {
+      // The existing key needs no room, so only the new one grows the full map
+      var found = find(key);
+      if (found >= 0) {
+        return found;
+      }
+
+      grow();
+    }
+
+    var index = home(key);
+    while (values[index] != null && keys[index] != key) {
+      index = (index + 1) & mask;
+    }
+
+    return index;
+  }
+
+  /**
+   * Empties the slot and moves back the following entries which can't be found without it, so the
+   * probe sequences stay without gaps.
+   */
+  private void shiftBack(int hole) {
+    var index = hole;
+    while (true) {
+      index = (index + 1) & mask;
+      if (values[index] == null) {
+        break;
+      }
+
+      // The entry may fill the hole only if the hole is between its home slot and itself
+      var home = home(keys[index]);
+      if (((index - home) & mask) >= ((index - hole) & mask)) {
+        keys[hole] = keys[index];
+        values[hole] = values[index];
+        hole = index;
+      }
+    }
+
+    values[hole] = null;
+  }
+
+  private void grow() {
+    if (keys.length == MAX_SLOTS) {
+      throw new IllegalStateException("The map is out of capacity!");
+    }
+
+    var oldKeys = keys;
+    var oldValues = values;
+    allocate(Math.max(oldKeys.length * 2, MIN_SLOTS));
+
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldValues[i] != null) {
+        var index = home(oldKeys[i]);
+        while (values[index] != null) {
+          index = (index + 1) & mask;
+        }
+
+        keys[index] = oldKeys[i];
+        values[index] = oldValues[i];
+      }
+    }
+  }
+
+  private void allocate(int slots) {
+    keys = new int[slots];
+    values = new Object[slots];
+    mask = slots - 1;
+    shift = Long.numberOfLeadingZeros(mask);
+  }
+
+  /** Linear probing gets slow when the map is dense, so the map keeps 1/4 of slots empty. */
+  private static int maxLoad(int slots) {
+    return slots - slots / 4;
+  }
+
+  private static int slotsFor(int capacity) {
+    var slots = MIN_SLOTS;
+    while (maxLoad(slots) < capacity) {
+      slots <<= 1;
+    }
+
+    return slots;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("IntHashMap{");
+    var first = true;
+    for (int i = 0; i < keys.length; i++) {
+      if (values[i] == null) {
+        continue;
+      }
+
+      if (!first) {
+        builder.append(", ");
+      }
+
+      builder.append(keys[i]).append(": ").append(values[i]);
+      first = false;
+    }
+
+    builder.append("}");
+    return builder.toString();
+  }
+}
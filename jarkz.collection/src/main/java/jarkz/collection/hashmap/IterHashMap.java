@@ -0,0 +1,89 @@
+package jarkz.collection.hashmap;
+
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/** Iterates over full slots of {@link HashMap} and projects each key and value into element. */
+public class IterHashMap<K, V, T> implements Iterator<T> {
+  private byte[] control;
+  private Object[] keys;
+  private Object[] values;
+  private BiFunction<K, V, T> projection;
+  private int position;
+  private long fullBits;
+  private int remaining;
+
+  IterHashMap(
+      byte[] control,
+      Object[] keys,
+      Object[] values,
+      int remaining,
+      BiFunction<K, V, T> projection) {
+    this.control = control;
+    this.keys = keys;
+    this.values = values;
+    this.projection = projection;
+    this.position = 0;
+    this.remaining = remaining;
+    if (remaining > 0) {
+      fullBits = HashMap.matchFull(HashMap.group(control, 0));
+    }
+  }
+
+  private boolean isEnd() {
+    return remaining == 0;
+  }
+
+  /** Finds the next full slot, skipping whole groups without full slots. */
+  private int nextIndex() {
+    while (fullBits == 0) {
+      position += HashMap.GROUP_WIDTH;
+      fullBits = HashMap.matchFull(HashMap.group(control, position));
+    }
+
+    var index = position + (Long.numberOfTrailingZeros(fullBits) >>> 3);
+    fullBits &= fullBits - 1;
+    remaining -= 1;
+    return index;
+  }
+
+  @SuppressWarnings("unchecked")
+  private T project(int index) {
+    // SAFETY: the full slot always holds the key of type K and the value of type V
+    return projection.apply((K) keys[index], (V) values[index]);
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    return SizeHint.exact(remaining);
+  }
+
+  @Override
+  public Optional<T> next() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(project(nextIndex()));
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    action.accept(project(nextIndex()));
+    return true;
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    while (!isEnd()) {
+      body.accept(project(nextIndex()));
+    }
+  }
+}
@@ -0,0 +1,54 @@
+package jarkz.collection.hashmap;
+
+import jarkz.collection.iterator.IntIterator;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/** Iterates over full slots of the map and turns each of them into {@code int} element. */
+public class IterIntSlots implements IntIterator {
+  private int slots;
+  private IntPredicate isFull;
+  private IntUnaryOperator element;
+  private int frontPointer;
+  private int remaining;
+
+  IterIntSlots(int slots, IntPredicate isFull, IntUnaryOperator element, int remaining) {
+    this.slots = slots;
+    this.isFull = isFull;
+    this.element = element;
+    this.frontPointer = 0;
+    this.remaining = remaining;
+  }
+
+  private boolean isEnd() {
+    return remaining == 0;
+  }
+
+  @Override
+  public OptionalInt next() {
+    if (isEnd()) {
+      return OptionalInt.empty();
+    }
+
+    while (!isFull.test(frontPointer)) {
+      frontPointer += 1;
+    }
+
+    remaining -= 1;
+    return OptionalInt.of(element.applyAsInt(frontPointer++));
+  }
+
+  @Override
+  public void forEach(IntConsumer body) {
+    for (int i = frontPointer; i < slots && !isEnd(); i++) {
+      if (isFull.test(i)) {
+        remaining -= 1;
+        body.accept(element.applyAsInt(i));
+      }
+    }
+
+    frontPointer = slots;
+  }
+}
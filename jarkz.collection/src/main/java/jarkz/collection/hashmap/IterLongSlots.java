@@ -0,0 +1,54 @@
+package jarkz.collection.hashmap;
+
+import jarkz.collection.iterator.LongIterator;
+import java.util.OptionalLong;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongConsumer;
+
+/** Iterates over full slots of the map and turns each of them into {@code long} element. */
+public class IterLongSlots implements LongIterator {
+  private int slots;
+  private IntPredicate isFull;
+  private IntToLongFunction element;
+  private int frontPointer;
+  private int remaining;
+
+  IterLongSlots(int slots, IntPredicate isFull, IntToLongFunction element, int remaining) {
+    this.slots = slots;
+    this.isFull = isFull;
+    this.element = element;
+    this.frontPointer = 0;
+    this.remaining = remaining;
+  }
+
+  private boolean isEnd() {
+    return remaining == 0;
+  }
+
+  @Override
+  public OptionalLong next() {
+    if (isEnd()) {
+      return OptionalLong.empty();
+    }
+
+    while (!isFull.test(frontPointer)) {
+      frontPointer += 1;
+    }
+
+    remaining -= 1;
+    return OptionalLong.of(element.applyAsLong(frontPointer++));
+  }
+
+  @Override
+  public void forEach(LongConsumer body) {
+    for (int i = frontPointer; i < slots && !isEnd(); i++) {
+      if (isFull.test(i)) {
+        remaining -= 1;
+        body.accept(element.applyAsLong(i));
+      }
+    }
+
+    frontPointer = slots;
+  }
+}
@@ -0,0 +1,74 @@
+package jarkz.collection.hashmap;
+
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+
+/** Iterates over full slots of the map with primitive keys and turns each of them into element. */
+public class IterSlots<T> implements Iterator<T> {
+  private int slots;
+  private IntPredicate isFull;
+  private IntFunction<T> element;
+  private int frontPointer;
+  private int remaining;
+
+  IterSlots(int slots, IntPredicate isFull, IntFunction<T> element, int remaining) {
+    this.slots = slots;
+    this.isFull = isFull;
+    this.element = element;
+    this.frontPointer = 0;
+    this.remaining = remaining;
+  }
+
+  private boolean isEnd() {
+    return remaining == 0;
+  }
+
+  private int nextIndex() {
+    while (!isFull.test(frontPointer)) {
+      frontPointer += 1;
+    }
+
+    remaining -= 1;
+    return frontPointer++;
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    return SizeHint.exact(remaining);
+  }
+
+  @Override
+  public Optional<T> next() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(element.apply(nextIndex()));
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    action.accept(element.apply(nextIndex()));
+    return true;
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    for (int i = frontPointer; i < slots && !isEnd(); i++) {
+      if (isFull.test(i)) {
+        remaining -= 1;
+        body.accept(element.apply(i));
+      }
+    }
+
+    frontPointer = slots;
+  }
+}
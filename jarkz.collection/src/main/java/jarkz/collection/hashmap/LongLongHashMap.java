@@ -0,0 +1,340 @@
+package jarkz.collection.hashmap;
+
+import jarkz.collection.iterator.IntoIterator;
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.LongIterator;
+import jarkz.collection.keyvalue.KeyValue;
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.function.IntPredicate;
+
+/**
+ * The hash map from {@code long} to {@code long} which never boxes keys and values. Keys and
+ * values are stored in parallel arrays with linear probing, so each entry takes 16 bytes.
+ *
+ * <p>The slot is empty when its key is zero. The zero key itself lives in the separate slot beside
+ * arrays, so any long can be a key. The removal shifts the following entries back instead of
+ * leaving tombstones, so lookups never slow down after many removals.
+ */
+public class LongLongHashMap
+    implements IntoIterator<KeyValue<Long, Long>, Iterator<KeyValue<Long, Long>>> {
+  private static final int MIN_SLOTS = 8;
+  private static final int MAX_SLOTS = 1 << 30;
+
+  private long[] keys;
+  private long[] values;
+  private int mask;
+  private int shift;
+  private int len;
+  private boolean hasZeroKey;
+  private long zeroValue;
+
+  public LongLongHashMap() {
+    keys = new long[0];
+    values = new long[0];
+    mask = 0;
+    shift = 0;
+    len = 0;
+  }
+
+  /** Creates the empty map which can hold given count of entries without reallocation. */
+  public static LongLongHashMap withCapacity(int capacity) {
+    if (capacity < 0 || capacity > maxLoad(MAX_SLOTS)) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+
+    var map = new LongLongHashMap();
+    if (capacity > 0) {
+      map.allocate(slotsFor(capacity));
+    }
+
+    return map;
+  }
+
+  public int len() {
+    return hasZeroKey ? len + 1 : len;
+  }
+
+  public boolean isEmpty() {
+    return len() == 0;
+  }
+
+  /** The count of entries which map can hold without reallocation. */
+  public int capacity() {
+    return maxLoad(keys.length) + 1;
+  }
+
+  public OptionalLong get(long key) {
+    if (key == 0) {
+      return hasZeroKey ? OptionalLong.of(zeroValue) : OptionalLong.empty();
+    }
+
+    var index = find(key);
+    if (index < 0) {
+      return OptionalLong.empty();
+    }
+
+    return OptionalLong.of(values[index]);
+  }
+
+  /** Returns the value by key if the key is present, otherwise returns the default value. */
+  public long getOrDefault(long key, long defaultValue) {
+    if (key == 0) {
+      return hasZeroKey ? zeroValue : defaultValue;
+    }
+
+    var index = find(key);
+    return index < 0 ? defaultValue : values[index];
+  }
+
+  public boolean containsKey(long key) {
+    if (key == 0) {
+      return hasZeroKey;
+    }
+
+    return find(key) >= 0;
+  }
+
+  /** Inserts the value by key and returns the previous value if the key was present. */
+  public OptionalLong insert(long key, long value) {
+    if (key == 0) {
+      var previous = hasZeroKey ? OptionalLong.of(zeroValue) : OptionalLong.empty();
+      hasZeroKey = true;
+      zeroValue = value;
+      return previous;
+    }
+
+    var index = probeForInsert(key);
+    if (keys[index] == 0) {
+      keys[index] = key;
+      values[index] = value;
+      len += 1;
+      return OptionalLong.empty();
+    }
+
+    var previous = values[index];
+    values[index] = value;
+    return OptionalLong.of(previous);
+  }
+
+  /**
+   * Adds the delta to the value by key, where the absent key counts as zero, and returns the new
+   * value. It probes the slots only once, so use it for counters.
+   */
+  public long addTo(long key, long delta) {
+    if (key == 0) {
+      zeroValue = hasZeroKey ? zeroValue + delta : delta;
+      hasZeroKey = true;
+      return zeroValue;
+    }
+
+    var index = probeForInsert(key);
+    if (keys[index] == 0) {
+      keys[index] = key;
+      values[index] = 0;
+      len += 1;
+    }
+
+    values[index] += delta;
+    return values[index];
+  }
+
+  /** Removes the entry by key and returns its value if the key was present. */
+  public OptionalLong remove(long key) {
+    if (key == 0) {
+      var previous = hasZeroKey ? OptionalLong.of(zeroValue) : OptionalLong.empty();
+      hasZeroKey = false;
+      zeroValue = 0;
+      return previous;
+    }
+
+    var index = find(key);
+    if (index < 0) {
+      return OptionalLong.empty();
+    }
+
+    var value = values[index];
+    shiftBack(index);
+    len -= 1;
+    return OptionalLong.of(value);
+  }
+
+  /** Removes all entries, but keeps the allocated slots. */
+  public void clear() {
+    Arrays.fill(keys, 0);
+    len = 0;
+    hasZeroKey = false;
+    zeroValue = 0;
+  }
+
+  /** Returns the iterator over entries in unspecified order. It boxes keys and values. */
+  @Override
+  public Iterator<KeyValue<Long, Long>> intoIterator() {
+    var keys = this.keys;
+    var values = this.values;
+    var zeroValue = this.zeroValue;
+    return new IterSlots<>(
+        keys.length + 1,
+        fullSlots(),
+        i -> i == keys.length ? new KeyValue<>(0L, zeroValue) : new KeyValue<>(keys[i], values[i]),
+        len());
+  }
+
+  /** Returns the iterator over keys in unspecified order. */
+  public LongIterator keys() {
+    var keys = this.keys;
+    return new IterLongSlots(
+        keys.length + 1, fullSlots(), i -> i == keys.length ? 0 : keys[i], len());
+  }
+
+  /** Returns the iterator over values in unspecified order. */
+  public LongIterator values() {
+    var keys = this.keys;
+    var values = this.values;
+    var zeroValue = this.zeroValue;
+    return new IterLongSlots(
+        keys.length + 1, fullSlots(), i -> i == keys.length ? zeroValue : values[i], len());
+  }
+
+  /** The slot right after arrays stands for the zero key. */
+  private IntPredicate fullSlots() {
+    var keys = this.keys;
+    var hasZeroKey = this.hasZeroKey;
+    return i -> i == keys.length ? hasZeroKey : keys[i] != 0;
+  }
+
+  private int home(long key) {
+    return (int) ((key * 0x9E3779B97F4A7C15L) >>> shift);
+  }
+
+  private int find(long key) {
+    if (len == 0) {
+      return -1;
+    }
+
+    for (var index = home(key); keys[index] != 0; index = (index + 1) & mask) {
+      if (keys[index] == key) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  /**
+   * Returns the slot which has given key or the empty slot where the key must be placed. It grows
+   * the map before, if the key is new and there is no room for one more entry.
+   */
+  private int probeForInsert(long key) {
+    if (len == maxLoad(keys.length)) {
+      // The existing key needs no room, so only the new one grows the full map
+      var found = find(key);
+      if (found >= 0) {
+        return found;
+      }
+
+      grow();
+    }
+
+    var index = home(key);
+    while (keys[index] != 0 && keys[index] != key) {
+      index = (index + 1) & mask;
+    }
+
+    return index;
+  }
+
+  /**
+   * Empties the slot and moves back the following entries which can't be found without it, so the
+   * probe sequences stay without gaps.
+   */
+  private void shiftBack(int hole) {
+    var index = hole;
+    while (true) {
+      index = (index + 1) & mask;
+      if (keys[index] == 0) {
+        break;
+      }
+
+      // The entry may fill the hole only if the hole is between its home slot and itself
+      var home = home(keys[index]);
+      if (((index - home) & mask) >= ((index - hole) & mask)) {
+        keys[hole] = keys[index];
+        values[hole] = values[index];
+        hole = index;
+      }
+    }
+
+    keys[hole] = 0;
+  }
+
+  private void grow() {
+    if (keys.length == MAX_SLOTS) {
+      throw new IllegalStateException("The map is out of capacity!");
+    }
+
+    var oldKeys = keys;
+    var oldValues = values;
+    allocate(Math.max(oldKeys.length * 2, MIN_SLOTS));
+
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != 0) {
+        var index = home(oldKeys[i]);
+        while (keys[index] != 0) {
+          index = (index + 1) & mask;
+        }
+
+        keys[index] = oldKeys[i];
+        values[index] = oldValues[i];
+      }
+    }
+  }
+
+  private void allocate(int slots) {
+    keys = new long[slots];
+    values = new long[slots];
+    mask = slots - 1;
+    shift = Long.numberOfLeadingZeros(mask);
+  }
+
+  /** Linear probing gets slow when the map is dense, so the map keeps 1/4 of slots empty. */
+  private static int maxLoad(int slots) {
+    return slots - slots / 4;
+  }
+
+  private static int slotsFor(int capacity) {
+    var slots = MIN_SLOTS;
+    while (maxLoad(slots) < capacity) {
+      slots <<= 1;
+    }
+
+    return slots;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("LongLongHashMap{");
+    var first = true;
+    if (hasZeroKey) {
+      builder.append(0).append(": ").append(zeroValue);
+      first = false;
+    }
+
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] == 0) {
+        continue;
+      }
+
+      if (!first) {
+        builder.append(", ");
+      }
+
+      builder.append(keys[i]).append(": ").append(values[i]);
+      first = false;
+    }
+
+    builder.append("}");
+    return builder.toString();
+  }
+}
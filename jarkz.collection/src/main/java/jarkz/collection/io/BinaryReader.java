@@ -0,0 +1,120 @@
+package jarkz.collection.io;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * The buffered reader of primitive values written by {@link BinaryWriter}. The reader never
+ * allocates after creation except for {@link BinaryReader#readBytes} and {@link
+ * BinaryReader#readString}, so pass the same buffer to reuse it between readers.
+ */
+public class BinaryReader {
+  private final ReadableByteChannel channel;
+  private final ByteBuffer buffer;
+
+  public BinaryReader(ReadableByteChannel channel) {
+    this(channel, ByteBuffer.allocateDirect(BinaryWriter.DEFAULT_BUFFER_SIZE));
+  }
+
+  /** Creates the reader with given buffer. The buffer must hold at least 8 bytes. */
+  public BinaryReader(ReadableByteChannel channel, ByteBuffer buffer) {
+    if (buffer.capacity() < Long.BYTES) {
+      throw new IllegalArgumentException("The buffer must hold at least 8 bytes");
+    }
+
+    this.channel = channel;
+    this.buffer = buffer.clear().flip();
+  }
+
+  /** Reads from channel until the buffer holds given count of bytes. */
+  private void ensure(int bytes) throws IOException {
+    if (buffer.remaining() >= bytes) {
+      return;
+    }
+
+    buffer.compact();
+    while (buffer.position() < bytes) {
+      if (channel.read(buffer) < 0) {
+        buffer.flip();
+        throw new EOFException("Expected " + bytes + " bytes, found " + buffer.remaining());
+      }
+    }
+
+    buffer.flip();
+  }
+
+  /** True, if neither the buffer nor the channel has bytes to read. */
+  public boolean isEnd() throws IOException {
+    if (buffer.hasRemaining()) {
+      return false;
+    }
+
+    buffer.clear();
+    var read = channel.read(buffer);
+    buffer.flip();
+    return read < 0;
+  }
+
+  public byte readByte() throws IOException {
+    ensure(Byte.BYTES);
+    return buffer.get();
+  }
+
+  public boolean readBoolean() throws IOException {
+    return readByte() != 0;
+  }
+
+  public int readInt() throws IOException {
+    ensure(Integer.BYTES);
+    return buffer.getInt();
+  }
+
+  public long readLong() throws IOException {
+    ensure(Long.BYTES);
+    return buffer.getLong();
+  }
+
+  public double readDouble() throws IOException {
+    ensure(Double.BYTES);
+    return buffer.getDouble();
+  }
+
+  /**
+   * Reads given count of bytes. The count usually comes from the input, so the array is allocated
+   * for a bounded part of it and grows only while the bytes actually arrive.
+   */
+  public byte[] readBytes(int count) throws IOException {
+    if (count < 0) {
+      throw new IllegalArgumentException("Invalid count of bytes: " + count);
+    }
+
+    var bytes = new byte[Codecs.preallocation(count)];
+    var offset = 0;
+    while (offset < count) {
+      ensure(1);
+      if (offset == bytes.length) {
+        bytes = Arrays.copyOf(bytes, (int) Math.min(2L * bytes.length, count));
+      }
+
+      var chunk = Math.min(buffer.remaining(), bytes.length - offset);
+      buffer.get(bytes, offset, chunk);
+      offset += chunk;
+    }
+
+    return bytes;
+  }
+
+  /** Reads the string written by {@link BinaryWriter#writeString}. */
+  public String readString() throws IOException {
+    var count = readInt();
+    if (count < 0) {
+      throw new IOException("Invalid string length: " + count);
+    }
+
+    return new String(readBytes(count), StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,98 @@
+package jarkz.collection.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The buffered writer of primitive values into {@link WritableByteChannel}. All values are written
+ * in big-endian order. The writer never allocates after creation, so pass the same buffer to
+ * reuse it between writers.
+ *
+ * <p>> <b>Note</b>: the values stay in the buffer until {@link BinaryWriter#flush} is called.
+ */
+public class BinaryWriter {
+  static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+  private final WritableByteChannel channel;
+  private final ByteBuffer buffer;
+
+  public BinaryWriter(WritableByteChannel channel) {
+    this(channel, ByteBuffer.allocateDirect(DEFAULT_BUFFER_SIZE));
+  }
+
+  /** Creates the writer with given buffer. The buffer must hold at least 8 bytes. */
+  public BinaryWriter(WritableByteChannel channel, ByteBuffer buffer) {
+    if (buffer.capacity() < Long.BYTES) {
+      throw new IllegalArgumentException("The buffer must hold at least 8 bytes");
+    }
+
+    this.channel = channel;
+    this.buffer = buffer.clear();
+  }
+
+  private void ensure(int bytes) throws IOException {
+    if (buffer.remaining() < bytes) {
+      drain();
+    }
+  }
+
+  private void drain() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+
+    buffer.clear();
+  }
+
+  public void writeByte(byte value) throws IOException {
+    ensure(Byte.BYTES);
+    buffer.put(value);
+  }
+
+  public void writeBoolean(boolean value) throws IOException {
+    writeByte(value ? (byte) 1 : (byte) 0);
+  }
+
+  public void writeInt(int value) throws IOException {
+    ensure(Integer.BYTES);
+    buffer.putInt(value);
+  }
+
+  public void writeLong(long value) throws IOException {
+    ensure(Long.BYTES);
+    buffer.putLong(value);
+  }
+
+  public void writeDouble(double value) throws IOException {
+    ensure(Double.BYTES);
+    buffer.putDouble(value);
+  }
+
+  /** Writes the bytes as is, without length prefix. */
+  public void writeBytes(byte[] bytes) throws IOException {
+    var offset = 0;
+    while (offset < bytes.length) {
+      ensure(1);
+      var count = Math.min(buffer.remaining(), bytes.length - offset);
+      buffer.put(bytes, offset, count);
+      offset += count;
+    }
+  }
+
+  /** Writes the string as UTF-8 bytes prefixed by their count. */
+  public void writeString(String value) throws IOException {
+    var bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeInt(bytes.length);
+    writeBytes(bytes);
+  }
+
+  /** Writes all buffered values into the channel. */
+  public void flush() throws IOException {
+    if (buffer.position() > 0) {
+      drain();
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package jarkz.collection.io;
+
+import java.io.IOException;
+
+/**
+ * The binary form of a value. The codec must read exactly the bytes which it writes, so codecs can
+ * be nested one into another. The ready codecs are in {@link Codecs}.
+ */
+public interface Codec<T> {
+  public void encode(T value, BinaryWriter out) throws IOException;
+
+  public T decode(BinaryReader in) throws IOException;
+}
@@ -0,0 +1,262 @@
+package jarkz.collection.io;
+
+import jarkz.collection.maybe.Maybe;
+import jarkz.collection.result.Result;
+import jarkz.collection.vector.DoubleVector;
+import jarkz.collection.vector.IntVector;
+import jarkz.collection.vector.LongVector;
+import jarkz.collection.vector.Vector;
+import java.io.IOException;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+/** The built-in {@link Codec} implementations. */
+public final class Codecs {
+  private static final byte NONE = 0;
+  private static final byte SOME = 1;
+  private static final byte OK = 0;
+  private static final byte ERR = 1;
+  // The lengths are read from untrusted input, so the vectors preallocate at most this count of
+  // elements and grow as the elements are actually decoded
+  private static final int MAX_PREALLOCATION = 1 << 16;
+
+  private Codecs() {}
+
+  public static final Codec<Integer> INT =
+      new Codec<>() {
+        @Override
+        public void encode(Integer value, BinaryWriter out) throws IOException {
+          out.writeInt(value);
+        }
+
+        @Override
+        public Integer decode(BinaryReader in) throws IOException {
+          return in.readInt();
+        }
+      };
+
+  public static final Codec<Long> LONG =
+      new Codec<>() {
+        @Override
+        public void encode(Long value, BinaryWriter out) throws IOException {
+          out.writeLong(value);
+        }
+
+        @Override
+        public Long decode(BinaryReader in) throws IOException {
+          return in.readLong();
+        }
+      };
+
+  public static final Codec<Double> DOUBLE =
+      new Codec<>() {
+        @Override
+        public void encode(Double value, BinaryWriter out) throws IOException {
+          out.writeDouble(value);
+        }
+
+        @Override
+        public Double decode(BinaryReader in) throws IOException {
+          return in.readDouble();
+        }
+      };
+
+  public static final Codec<Boolean> BOOLEAN =
+      new Codec<>() {
+        @Override
+        public void encode(Boolean value, BinaryWriter out) throws IOException {
+          out.writeBoolean(value);
+        }
+
+        @Override
+        public Boolean decode(BinaryReader in) throws IOException {
+          return in.readBoolean();
+        }
+      };
+
+  /** Writes the string as UTF-8 bytes prefixed by their count. */
+  public static final Codec<String> STRING =
+      new Codec<>() {
+        @Override
+        public void encode(String value, BinaryWriter out) throws IOException {
+          out.writeString(value);
+        }
+
+        @Override
+        public String decode(BinaryReader in) throws IOException {
+          return in.readString();
+        }
+      };
+
+  /** Writes the length of vector and then all values without boxing. */
+  public static final Codec<IntVector> INT_VECTOR =
+      new Codec<>() {
+        @Override
+        public void encode(IntVector value, BinaryWriter out) throws IOException {
+          out.writeInt(value.len());
+
+          var iterator = value.intoIterator();
+          OptionalInt element;
+          while ((element = iterator.next()).isPresent()) {
+            out.writeInt(element.getAsInt());
+          }
+        }
+
+        @Override
+        public IntVector decode(BinaryReader in) throws IOException {
+          var len = readLength(in);
+          var vector = IntVector.withCapacity(preallocation(len));
+          for (int i = 0; i < len; i++) {
+            vector.push(in.readInt());
+          }
+
+          return vector;
+        }
+      };
+
+  /** Writes the length of vector and then all values without boxing. */
+  public static final Codec<LongVector> LONG_VECTOR =
+      new Codec<>() {
+        @Override
+        public void encode(LongVector value, BinaryWriter out) throws IOException {
+          out.writeInt(value.len());
+
+          var iterator = value.intoIterator();
+          OptionalLong element;
+          while ((element = iterator.next()).isPresent()) {
+            out.writeLong(element.getAsLong());
+          }
+        }
+
+        @Override
+        public LongVector decode(BinaryReader in) throws IOException {
+          var len = readLength(in);
+          var vector = LongVector.withCapacity(preallocation(len));
+          for (int i = 0; i < len; i++) {
+            vector.push(in.readLong());
+          }
+
+          return vector;
+        }
+      };
+
+  /** Writes the length of vector and then all values without boxing. */
+  public static final Codec<DoubleVector> DOUBLE_VECTOR =
+      new Codec<>() {
+        @Override
+        public void encode(DoubleVector value, BinaryWriter out) throws IOException {
+          out.writeInt(value.len());
+
+          var iterator = value.intoIterator();
+          OptionalDouble element;
+          while ((element = iterator.next()).isPresent()) {
+            out.writeDouble(element.getAsDouble());
+          }
+        }
+
+        @Override
+        public DoubleVector decode(BinaryReader in) throws IOException {
+          var len = readLength(in);
+          var vector = DoubleVector.withCapacity(preallocation(len));
+          for (int i = 0; i < len; i++) {
+            vector.push(in.readDouble());
+          }
+
+          return vector;
+        }
+      };
+
+  /** Writes the tag byte of Some or None and then the value if it exists. */
+  public static <T> Codec<Maybe<T>> maybe(Codec<T> codec) {
+    return new Codec<>() {
+      @Override
+      public void encode(Maybe<T> value, BinaryWriter out) throws IOException {
+        if (value.isNone()) {
+          out.writeByte(NONE);
+          return;
+        }
+
+        out.writeByte(SOME);
+        codec.encode(value.unwrap(), out);
+      }
+
+      @Override
+      public Maybe<T> decode(BinaryReader in) throws IOException {
+        var tag = in.readByte();
+        return switch (tag) {
+          case NONE -> Maybe.None();
+          case SOME -> Maybe.Some(codec.decode(in));
+          default -> throw new IOException("Invalid tag of Maybe: " + tag);
+        };
+      }
+    };
+  }
+
+  /** Writes the tag byte of Ok or Err and then the value by the codec of its kind. */
+  public static <T, E> Codec<Result<T, E>> result(Codec<T> okCodec, Codec<E> errCodec) {
+    return new Codec<>() {
+      @Override
+      public void encode(Result<T, E> value, BinaryWriter out) throws IOException {
+        if (value.isOk()) {
+          out.writeByte(OK);
+          okCodec.encode(value.unwrap(), out);
+        } else {
+          out.writeByte(ERR);
+          errCodec.encode(value.unwrapErr(), out);
+        }
+      }
+
+      @Override
+      public Result<T, E> decode(BinaryReader in) throws IOException {
+        var tag = in.readByte();
+        return switch (tag) {
+          case OK -> Result.Ok(okCodec.decode(in));
+          case ERR -> Result.Err(errCodec.decode(in));
+          default -> throw new IOException("Invalid tag of Result: " + tag);
+        };
+      }
+    };
+  }
+
+  /** Writes the length of vector and then all elements by given codec. */
+  public static <T> Codec<Vector<T>> vector(Codec<T> codec) {
+    return new Codec<>() {
+      @Override
+      public void encode(Vector<T> value, BinaryWriter out) throws IOException {
+        out.writeInt(value.len());
+        for (int i = 0; i < value.len(); i++) {
+          codec.encode(value.at(i).get(), out);
+        }
+      }
+
+      @Override
+      public Vector<T> decode(BinaryReader in) throws IOException {
+        var len = readLength(in);
+        var vector = Vector.<T>withCapacity(preallocation(len));
+        for (int i = 0; i < len; i++) {
+          vector.push(codec.decode(in));
+        }
+
+        return vector;
+      }
+    };
+  }
+
+  /**
+   * The capacity to allocate for the length read from input. A corrupt or truncated file fails on
+   * reading the missing elements instead of allocating the whole claimed length at once.
+   */
+  static int preallocation(long len) {
+    return (int) Math.min(len, MAX_PREALLOCATION);
+  }
+
+  private static int readLength(BinaryReader in) throws IOException {
+    var len = in.readInt();
+    if (len < 0) {
+      throw new IOException("Invalid length of vector: " + len);
+    }
+
+    return len;
+  }
+}
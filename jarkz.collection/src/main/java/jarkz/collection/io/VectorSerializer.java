@@ -0,0 +1,114 @@
+package jarkz.collection.io;
+
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
+import jarkz.collection.vector.Vector;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.Optional;
+
+/**
+ * Writes {@link Vector} into the compact binary form and reads it back as lazy {@link Iterator},
+ * so a stored vector can be streamed through adapters without materializing.
+ *
+ * <p>The form is the magic number, the count of elements as long and then the elements encoded
+ * one after another by {@link Codec}.
+ */
+public final class VectorSerializer {
+  private static final int MAGIC = 0x4A4B5A53; // "JKZS"
+
+  private VectorSerializer() {}
+
+  public static <T> void write(Vector<T> vector, Codec<T> codec, WritableByteChannel channel)
+      throws IOException {
+    write(vector, codec, new BinaryWriter(channel));
+  }
+
+  /** Writes the vector by given writer and flushes it. */
+  public static <T> void write(Vector<T> vector, Codec<T> codec, BinaryWriter out)
+      throws IOException {
+    out.writeInt(MAGIC);
+    out.writeLong(vector.len());
+    for (int i = 0; i < vector.len(); i++) {
+      codec.encode(vector.at(i).get(), out);
+    }
+
+    out.flush();
+  }
+
+  public static <T> Iterator<T> read(ReadableByteChannel channel, Codec<T> codec)
+      throws IOException {
+    return read(new BinaryReader(channel), codec);
+  }
+
+  /**
+   * Reads the header immediately and returns the iterator which decodes elements on demand. The
+   * iterator throws {@link UncheckedIOException} if reading fails.
+   */
+  public static <T> Iterator<T> read(BinaryReader in, Codec<T> codec) throws IOException {
+    var magic = in.readInt();
+    if (magic != MAGIC) {
+      throw new IOException("The data is not a serialized vector");
+    }
+
+    var len = in.readLong();
+    if (len < 0) {
+      throw new IOException("Invalid length of vector: " + len);
+    }
+
+    return new Decoder<>(in, codec, len);
+  }
+
+  /** Reads all elements into a new {@link Vector}. */
+  public static <T> Vector<T> readVector(ReadableByteChannel channel, Codec<T> codec)
+      throws IOException {
+    try {
+      return Vector.collect(read(channel, codec));
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  private static class Decoder<T> implements Iterator<T> {
+    private BinaryReader in;
+    private Codec<T> codec;
+    private long remaining;
+
+    Decoder(BinaryReader in, Codec<T> codec, long remaining) {
+      this.in = in;
+      this.codec = codec;
+      this.remaining = remaining;
+    }
+
+    /**
+     * The count comes from untrusted header, so the lower bound is capped and the collections
+     * preallocate at most a chunk of elements, see {@link Codecs#preallocation}.
+     */
+    @Override
+    public SizeHint sizeHint() {
+      var lower = Codecs.preallocation(remaining);
+      if (remaining > Integer.MAX_VALUE) {
+        return SizeHint.atLeast(lower);
+      }
+
+      return SizeHint.between(lower, (int) remaining);
+    }
+
+    @Override
+    public Optional<T> next() {
+      if (remaining == 0) {
+        return Optional.empty();
+      }
+
+      try {
+        var element = codec.decode(in);
+        remaining -= 1;
+        return Optional.of(element);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
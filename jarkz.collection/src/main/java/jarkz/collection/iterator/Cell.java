@@ -0,0 +1,21 @@
+package jarkz.collection.iterator;
+
+/**
+ * The mutable holder which lets terminal operations of {@link Iterator} carry the state through
+ * lambdas passed to {@link Iterator#tryAdvance} and {@link Iterator#forEach}.
+ */
+final class Cell<T> {
+  T value;
+  boolean present;
+
+  Cell() {}
+
+  Cell(T value) {
+    this.value = value;
+  }
+
+  void set(T value) {
+    this.value = value;
+    present = true;
+  }
+}
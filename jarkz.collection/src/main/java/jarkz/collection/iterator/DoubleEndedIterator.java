@@ -2,10 +2,22 @@ package jarkz.collection.iterator;
 
 import jarkz.collection.iterator.functools.Reverse;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface DoubleEndedIterator<T> extends Iterator<T> {
   public Optional<T> nextBack();
 
+  /** The same as {@link Iterator#tryAdvance}, but takes the element from the back. */
+  public default boolean tryAdvanceBack(Consumer<T> action) {
+    var element = nextBack();
+    if (element.isEmpty()) {
+      return false;
+    }
+
+    action.accept(element.get());
+    return true;
+  }
+
   @Override
   public default Reverse<T> reverse() {
     return new Reverse<>(this);
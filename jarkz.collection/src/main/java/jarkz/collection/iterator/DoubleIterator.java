@@ -0,0 +1,78 @@
+package jarkz.collection.iterator;
+
+import jarkz.collection.iterator.functools.*;
+import java.util.OptionalDouble;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * The primitive specialization of {@link Iterator} for {@code double} values. None of adapters and
+ * terminal operations box the values, so use it for numeric workloads instead of
+ * Iterator&lt;Double&gt;.
+ */
+public interface DoubleIterator {
+  public OptionalDouble next();
+
+  public default DoubleFilter filter(DoublePredicate checker) {
+    return new DoubleFilter(this, checker);
+  }
+
+  public default DoubleMap map(DoubleUnaryOperator mapper) {
+    return new DoubleMap(this, mapper);
+  }
+
+  public default DoubleMapToInt mapToInt(DoubleToIntFunction mapper) {
+    return new DoubleMapToInt(this, mapper);
+  }
+
+  public default DoubleMapToLong mapToLong(DoubleToLongFunction mapper) {
+    return new DoubleMapToLong(this, mapper);
+  }
+
+  public default <R> DoubleMapToObj<R> mapToObj(DoubleFunction<R> mapper) {
+    return new DoubleMapToObj<>(this, mapper);
+  }
+
+  public default DoubleMapToObj<Double> boxed() {
+    return mapToObj(Double::valueOf);
+  }
+
+  public default OptionalDouble reduce(DoubleBinaryOperator combiner) {
+    OptionalDouble element;
+    if ((element = next()).isEmpty()) {
+      return element;
+    }
+
+    return OptionalDouble.of(fold(element.getAsDouble(), combiner));
+  }
+
+  public default double fold(final double initialValue, DoubleBinaryOperator accumulator) {
+    var result = new double[] {initialValue};
+    forEach(element -> result[0] = accumulator.applyAsDouble(result[0], element));
+    return result[0];
+  }
+
+  public default double sum() {
+    return fold(0, Double::sum);
+  }
+
+  public default OptionalDouble min() {
+    return reduce(Math::min);
+  }
+
+  public default OptionalDouble max() {
+    return reduce(Math::max);
+  }
+
+  public default void forEach(DoubleConsumer body) {
+    OptionalDouble element;
+    while ((element = next()).isPresent()) {
+      body.accept(element.getAsDouble());
+    }
+  }
+}
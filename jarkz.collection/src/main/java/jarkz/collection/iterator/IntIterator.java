@@ -0,0 +1,78 @@
+package jarkz.collection.iterator;
+
+import jarkz.collection.iterator.functools.*;
+import java.util.OptionalInt;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * The primitive specialization of {@link Iterator} for {@code int} values. None of adapters and
+ * terminal operations box the values, so use it for numeric workloads instead of
+ * Iterator&lt;Integer&gt;.
+ */
+public interface IntIterator {
+  public OptionalInt next();
+
+  public default IntFilter filter(IntPredicate checker) {
+    return new IntFilter(this, checker);
+  }
+
+  public default IntMap map(IntUnaryOperator mapper) {
+    return new IntMap(this, mapper);
+  }
+
+  public default IntMapToLong mapToLong(IntToLongFunction mapper) {
+    return new IntMapToLong(this, mapper);
+  }
+
+  public default IntMapToDouble mapToDouble(IntToDoubleFunction mapper) {
+    return new IntMapToDouble(this, mapper);
+  }
+
+  public default <R> IntMapToObj<R> mapToObj(IntFunction<R> mapper) {
+    return new IntMapToObj<>(this, mapper);
+  }
+
+  public default IntMapToObj<Integer> boxed() {
+    return mapToObj(Integer::valueOf);
+  }
+
+  public default OptionalInt reduce(IntBinaryOperator combiner) {
+    OptionalInt element;
+    if ((element = next()).isEmpty()) {
+      return element;
+    }
+
+    return OptionalInt.of(fold(element.getAsInt(), combiner));
+  }
+
+  public default int fold(final int initialValue, IntBinaryOperator accumulator) {
+    var result = new int[] {initialValue};
+    forEach(element -> result[0] = accumulator.applyAsInt(result[0], element));
+    return result[0];
+  }
+
+  public default int sum() {
+    return fold(0, Integer::sum);
+  }
+
+  public default OptionalInt min() {
+    return reduce(Math::min);
+  }
+
+  public default OptionalInt max() {
+    return reduce(Math::max);
+  }
+
+  public default void forEach(IntConsumer body) {
+    OptionalInt element;
+    while ((element = next()).isPresent()) {
+      body.accept(element.getAsInt());
+    }
+  }
+}
@@ -1,15 +1,32 @@
 package jarkz.collection.iterator;
 
 import jarkz.collection.iterator.functools.*;
+import jarkz.collection.result.Result;
+import jarkz.collection.unit.Unit;
+import jarkz.collection.vector.BinaryHeap;
+import jarkz.collection.vector.Vector;
+import java.time.Duration;
+import java.util.Comparator;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public interface Iterator<T> {
   public Optional<T> next();
 
+  /**
+   * Returns the bounds on the remaining length of iterator. The default implementation says nothing
+   * about the length, so override it when the length is known to let collections preallocate.
+   */
+  public default SizeHint sizeHint() {
+    return SizeHint.unknown();
+  }
+
   public default Take<T> take(int count) {
     return new Take<>(this, count);
   }
@@ -30,6 +47,18 @@ public interface Iterator<T> {
     return new Chain<>(this, otherIterator);
   }
 
+  public default Chunked<T> chunked(int size) {
+    return new Chunked<>(this, size);
+  }
+
+  public default ChunkedTimeout<T> chunkedTimeout(int size, Duration timeout) {
+    return new ChunkedTimeout<>(this, size, timeout);
+  }
+
+  public default Prefetch<T> prefetch(int bufferSize) {
+    return new Prefetch<>(this, bufferSize);
+  }
+
   public default Filter<T> filter(Predicate<T> checker) {
     return new Filter<>(this, checker);
   }
@@ -42,6 +71,27 @@ public interface Iterator<T> {
     return new Map<>(this, mapper);
   }
 
+  public default <R> MapConcurrent<T, R> mapConcurrent(Function<T, R> mapper, int parallelism) {
+    return new MapConcurrent<>(this, mapper, parallelism);
+  }
+
+  public default <R> MapConcurrentUnordered<T, R> mapConcurrentUnordered(
+      Function<T, R> mapper, int parallelism) {
+    return new MapConcurrentUnordered<>(this, mapper, parallelism);
+  }
+
+  public default MapToInt<T> mapToInt(ToIntFunction<T> mapper) {
+    return new MapToInt<>(this, mapper);
+  }
+
+  public default MapToLong<T> mapToLong(ToLongFunction<T> mapper) {
+    return new MapToLong<>(this, mapper);
+  }
+
+  public default MapToDouble<T> mapToDouble(ToDoubleFunction<T> mapper) {
+    return new MapToDouble<>(this, mapper);
+  }
+
   public default <R> FlatMap<T, R> flatMap(Function<T, Iterator<R>> mapper) {
     return new FlatMap<>(this, mapper);
   }
@@ -60,56 +110,155 @@ public interface Iterator<T> {
   }
 
   public default Optional<T> find(Predicate<T> checker) {
-    Optional<T> element;
+    var found = new Cell<T>();
+    Consumer<T> probe =
+        element -> {
+          if (checker.test(element)) {
+            found.set(element);
+          }
+        };
 
-    while ((element = next()).isPresent() && checker.negate().test(element.get())) {}
+    while (!found.present && tryAdvance(probe)) {}
 
-    return element;
+    return found.present ? Optional.of(found.value) : Optional.empty();
   }
 
   public default <R> Optional<R> findMap(Function<T, Optional<R>> mapper) {
-    Optional<T> element;
-    Optional<R> mappedElement = Optional.empty();
+    var found = new Cell<R>();
+    Consumer<T> probe =
+        element -> {
+          var mappedElement = mapper.apply(element);
+          if (mappedElement.isPresent()) {
+            found.set(mappedElement.get());
+          }
+        };
 
-    while ((element = next()).isPresent()
-        && (mappedElement = mapper.apply(element.get())).isEmpty()) {}
+    while (!found.present && tryAdvance(probe)) {}
 
-    return mappedElement;
+    return found.present ? Optional.of(found.value) : Optional.empty();
   }
 
   public default Optional<T> reduce(BiFunction<T, T, T> combiner) {
-    Optional<T> element;
-    if ((element = next()).isEmpty()) {
-      return element;
-    }
-
-    var lval = element.get();
-    while ((element = next()).isPresent()) {
-      lval = combiner.apply(lval, element.get());
+    var first = new Cell<T>();
+    if (!tryAdvance(first::set)) {
+      return Optional.empty();
     }
 
-    return Optional.of(lval);
+    return Optional.of(fold(first.value, combiner));
   }
 
   public default <R> R fold(final R initialValue, BiFunction<R, T, R> accumulator) {
-    var result = initialValue;
+    var result = new Cell<R>(initialValue);
+    forEach(element -> result.value = accumulator.apply(result.value, element));
+    return result.value;
+  }
 
-    Optional<T> element;
-    while ((element = next()).isPresent()) {
-      result = accumulator.apply(result, element.get());
-    }
+  /**
+   * Folds elements while the accumulator returns Ok value and returns the first Err, so the
+   * remaining elements are not pulled at all.
+   */
+  public default <R, E> Result<R, E> tryFold(
+      final R initialValue, BiFunction<R, T, Result<R, E>> accumulator) {
+    var result = new Cell<R>(initialValue);
+    var error = new Cell<E>();
+    Consumer<T> step =
+        element -> {
+          var accumulated = accumulator.apply(result.value, element);
+          if (accumulated.isOk()) {
+            result.value = accumulated.unwrapUnchecked();
+          } else {
+            error.set(accumulated.unwrapErrUnchecked());
+          }
+        };
+
+    while (!error.present && tryAdvance(step)) {}
+
+    return error.present ? Result.Err(error.value) : Result.Ok(result.value);
+  }
 
-    return result;
+  /** Calls the body for elements until it returns the first Err, which is returned then. */
+  public default <E> Result<Unit, E> tryForEach(Function<T, Result<Unit, E>> body) {
+    var error = new Cell<E>();
+    Consumer<T> step =
+        element -> {
+          var result = body.apply(element);
+          if (result.isErr()) {
+            error.set(result.unwrapErrUnchecked());
+          }
+        };
+
+    while (!error.present && tryAdvance(step)) {}
+
+    return error.present ? Result.Err(error.value) : Result.Ok();
   }
 
   public default <R> R collect(Collector<T, R> collector) {
     return collector.collect(this);
   }
 
-  public default void forEach(Consumer<T> body) {
-    Optional<T> element;
-    while ((element = next()).isPresent()) {
-      body.accept(element.get());
+  /**
+   * Returns the k greatest elements by comparator in descending order. It keeps only k elements in
+   * a bounded heap while iterating, so it needs O(k) memory for any count of elements.
+   */
+  public default Vector<T> topK(int k, Comparator<? super T> comparator) {
+    if (k < 0) {
+      throw new IllegalArgumentException("Invalid count of elements: " + k);
+    }
+
+    // The heap grows on demand, so don't trust large k when the iterator is known to be shorter
+    var hint = sizeHint();
+    var capacity = Math.min(k, hint.upper().orElse(hint.lower()));
+    // The top of reversed heap is the smallest of kept elements, so it's the one to evict
+    var heap = BinaryHeap.<T>withCapacity(capacity, comparator.reversed());
+    if (k == 0) {
+      return heap.intoVector();
     }
+
+    forEach(
+        element -> {
+          if (heap.len() < k) {
+            heap.push(element);
+          } else {
+            heap.pushPop(element);
+          }
+        });
+
+    return heap.intoSorted();
+  }
+
+  /**
+   * Passes the next element to the given action if it exists. It is the push-style counterpart of
+   * {@link Iterator#next} which doesn't wrap the element, so override it when the iterator can
+   * produce elements without allocating {@link Optional}.
+   *
+   * @return true, if the element was passed to the action.
+   */
+  public default boolean tryAdvance(Consumer<T> action) {
+    var element = next();
+    if (element.isEmpty()) {
+      return false;
+    }
+
+    action.accept(element.get());
+    return true;
   }
+
+  /**
+   * Passes all remaining elements to the given body. All other terminal operations are built on it
+   * and {@link Iterator#tryAdvance}, so override it to run the whole iteration as one tight loop.
+   */
+  public default void forEach(Consumer<T> body) {
+    while (tryAdvance(body)) {}
+  }
+
+  /**
+   * Tells the iterator that its owner won't pull elements anymore, so it can release resources like
+   * background threads. Adapters forward it to their sources. It may be called many times.
+   *
+   * <p>> <b>Attention</b>: the cancelled iterator may drop the elements which it has already
+   * pulled ahead, e.g. {@link Prefetch} throws away its buffer. So only the owner of iterator calls
+   * it, the adapters like {@code take} and the terminal operations like {@code find} never do, and
+   * the rest of elements stays readable after them.
+   */
+  public default void cancel() {}
 }
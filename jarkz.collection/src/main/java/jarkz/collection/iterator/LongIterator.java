@@ -0,0 +1,78 @@
+package jarkz.collection.iterator;
+
+import jarkz.collection.iterator.functools.*;
+import java.util.OptionalLong;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * The primitive specialization of {@link Iterator} for {@code long} values. None of adapters and
+ * terminal operations box the values, so use it for numeric workloads instead of
+ * Iterator&lt;Long&gt;.
+ */
+public interface LongIterator {
+  public OptionalLong next();
+
+  public default LongFilter filter(LongPredicate checker) {
+    return new LongFilter(this, checker);
+  }
+
+  public default LongMap map(LongUnaryOperator mapper) {
+    return new LongMap(this, mapper);
+  }
+
+  public default LongMapToInt mapToInt(LongToIntFunction mapper) {
+    return new LongMapToInt(this, mapper);
+  }
+
+  public default LongMapToDouble mapToDouble(LongToDoubleFunction mapper) {
+    return new LongMapToDouble(this, mapper);
+  }
+
+  public default <R> LongMapToObj<R> mapToObj(LongFunction<R> mapper) {
+    return new LongMapToObj<>(this, mapper);
+  }
+
+  public default LongMapToObj<Long> boxed() {
+    return mapToObj(Long::valueOf);
+  }
+
+  public default OptionalLong reduce(LongBinaryOperator combiner) {
+    OptionalLong element;
+    if ((element = next()).isEmpty()) {
+      return element;
+    }
+
+    return OptionalLong.of(fold(element.getAsLong(), combiner));
+  }
+
+  public default long fold(final long initialValue, LongBinaryOperator accumulator) {
+    var result = new long[] {initialValue};
+    forEach(element -> result[0] = accumulator.applyAsLong(result[0], element));
+    return result[0];
+  }
+
+  public default long sum() {
+    return fold(0, Long::sum);
+  }
+
+  public default OptionalLong min() {
+    return reduce(Math::min);
+  }
+
+  public default OptionalLong max() {
+    return reduce(Math::max);
+  }
+
+  public default void forEach(LongConsumer body) {
+    OptionalLong element;
+    while ((element = next()).isPresent()) {
+      body.accept(element.getAsLong());
+    }
+  }
+}
@@ -0,0 +1,203 @@
+package jarkz.collection.iterator;
+
+import jarkz.collection.vector.Vector;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The parallel counterpart of {@link Iterator}. It recursively splits the {@link
+ * SplittableIterator} until parts become smaller than the threshold, consumes every part on {@link
+ * ForkJoinPool} and joins the partial results by combiner function in the order of elements.
+ *
+ * <p>> <b>Note</b>: the adapters like {@link ParallelIterator#map} are applied lazily to every
+ * part, so they must be safe to call from different threads.
+ */
+public class ParallelIterator<T> {
+  private static final int MIN_THRESHOLD = 1024;
+  private static final int TASKS_PER_THREAD = 4;
+
+  private final Source<T> source;
+  private int threshold = 0;
+  private ForkJoinPool pool = ForkJoinPool.commonPool();
+
+  public ParallelIterator(SplittableIterator<T> iterator) {
+    this(new Pipeline<>(iterator, Function.identity()));
+  }
+
+  private ParallelIterator(Source<T> source) {
+    this.source = source;
+  }
+
+  private <R> ParallelIterator<R> then(Function<Iterator<T>, Iterator<R>> stage) {
+    var next = new ParallelIterator<>(source.then(stage));
+    next.threshold = threshold;
+    next.pool = pool;
+    return next;
+  }
+
+  /**
+   * Sets the count of elements below which a part is consumed sequentially instead of splitting.
+   * By default it depends on the length of iterator and parallelism of pool.
+   */
+  public ParallelIterator<T> withThreshold(int threshold) {
+    if (threshold <= 0) {
+      throw new IllegalArgumentException("The split threshold must be positive, got " + threshold);
+    }
+
+    this.threshold = threshold;
+    return this;
+  }
+
+  /** Sets the pool on which the terminal operations run. By default it's the common pool. */
+  public ParallelIterator<T> withPool(ForkJoinPool pool) {
+    this.pool = pool;
+    return this;
+  }
+
+  public <R> ParallelIterator<R> map(Function<T, R> mapper) {
+    return then(iterator -> iterator.map(mapper));
+  }
+
+  public ParallelIterator<T> filter(Predicate<T> checker) {
+    return then(iterator -> iterator.filter(checker));
+  }
+
+  public <R> ParallelIterator<R> filterMap(Function<T, Optional<R>> mapper) {
+    return then(iterator -> iterator.filterMap(mapper));
+  }
+
+  /**
+   * Folds every part starting with its own initial value from {@link Supplier} and joins the
+   * results of parts by the combiner.
+   */
+  public <R> R fold(
+      Supplier<R> initialValue, BiFunction<R, T, R> accumulator, BinaryOperator<R> combiner) {
+    return run(iterator -> iterator.fold(initialValue.get(), accumulator), combiner);
+  }
+
+  public Optional<T> reduce(BinaryOperator<T> combiner) {
+    return run(
+        iterator -> iterator.reduce(combiner),
+        (lhs, rhs) -> {
+          if (lhs.isEmpty()) {
+            return rhs;
+          }
+
+          if (rhs.isEmpty()) {
+            return lhs;
+          }
+
+          return Optional.of(combiner.apply(lhs.get(), rhs.get()));
+        });
+  }
+
+  /** Passes all elements to the body. The order of calls is not defined. */
+  public void forEach(Consumer<T> body) {
+    run(
+        iterator -> {
+          iterator.forEach(body);
+          return null;
+        },
+        (lhs, rhs) -> null);
+  }
+
+  /** Collects all elements into {@link Vector} keeping their order. */
+  public Vector<T> collect() {
+    return run(
+        Vector::collect,
+        (lhs, rhs) -> {
+          lhs.extend(rhs);
+          return lhs;
+        });
+  }
+
+  private <R> R run(Function<Iterator<T>, R> leaf, BinaryOperator<R> combiner) {
+    var splitThreshold = threshold;
+    if (splitThreshold == 0) {
+      var parts = pool.getParallelism() * TASKS_PER_THREAD;
+      splitThreshold = Math.max(source.size() / parts, MIN_THRESHOLD);
+    }
+
+    return pool.invoke(new Task<>(source, leaf, combiner, splitThreshold));
+  }
+
+  private static class Task<T, R> extends RecursiveTask<R> {
+    private final Source<T> source;
+    private final Function<Iterator<T>, R> leaf;
+    private final BinaryOperator<R> combiner;
+    private final int threshold;
+
+    Task(
+        Source<T> source,
+        Function<Iterator<T>, R> leaf,
+        BinaryOperator<R> combiner,
+        int threshold) {
+      this.source = source;
+      this.leaf = leaf;
+      this.combiner = combiner;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected R compute() {
+      if (source.size() > threshold) {
+        var prefix = source.trySplit();
+        if (prefix.isPresent()) {
+          var left = new Task<>(prefix.get(), leaf, combiner, threshold);
+          left.fork();
+          var right = new Task<>(source, leaf, combiner, threshold).compute();
+          return combiner.apply(left.join(), right);
+        }
+      }
+
+      return leaf.apply(source.open());
+    }
+  }
+
+  private interface Source<T> {
+    Iterator<T> open();
+
+    Optional<Source<T>> trySplit();
+
+    int size();
+
+    <R> Source<R> then(Function<Iterator<T>, Iterator<R>> stage);
+  }
+
+  private record Pipeline<S, T>(
+      SplittableIterator<S> iterator, Function<Iterator<S>, Iterator<T>> stages)
+      implements Source<T> {
+
+    @Override
+    public Iterator<T> open() {
+      return stages.apply(iterator);
+    }
+
+    @Override
+    public Optional<Source<T>> trySplit() {
+      return iterator.trySplit().map(prefix -> new Pipeline<>(prefix, stages));
+    }
+
+    /**
+     * The upper bound estimates the work better for iterators which count elements only by reading
+     * them, e.g. records of a file, and it's the same for exact hints.
+     */
+    @Override
+    public int size() {
+      var hint = iterator.sizeHint();
+      return hint.upper().orElse(hint.lower());
+    }
+
+    @Override
+    public <R> Source<R> then(Function<Iterator<T>, Iterator<R>> stage) {
+      return new Pipeline<>(iterator, stages.andThen(stage));
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package jarkz.collection.iterator;
+
+import java.util.OptionalInt;
+
+/**
+ * The bounds on the remaining length of {@link Iterator}. The lower bound is always known, but the
+ * upper one is absent when the iterator can't tell how many elements it yields. When both bounds
+ * are equal the hint is exact and collections may allocate the final capacity at once.
+ */
+public final class SizeHint {
+  private static final int UNBOUNDED = -1;
+  private static final SizeHint UNKNOWN = new SizeHint(0, UNBOUNDED);
+
+  private final int lower;
+  private final int upper;
+
+  private SizeHint(int lower, int upper) {
+    this.lower = lower;
+    this.upper = upper;
+  }
+
+  /** Creates the hint for iterator which yields exactly the given count of elements. */
+  public static SizeHint exact(int len) {
+    return new SizeHint(len, len);
+  }
+
+  /** Creates the hint for iterator which yields from lower to upper (inclusive) elements. */
+  public static SizeHint between(int lower, int upper) {
+    if (lower < 0 || upper < lower) {
+      throw new IllegalArgumentException("Invalid size hint bounds: " + lower + ".." + upper);
+    }
+
+    return new SizeHint(lower, upper);
+  }
+
+  /** Creates the hint for iterator which yields at least given count of elements. */
+  public static SizeHint atLeast(int lower) {
+    return new SizeHint(lower, UNBOUNDED);
+  }
+
+  /** Creates the hint which says nothing about the length. */
+  public static SizeHint unknown() {
+    return UNKNOWN;
+  }
+
+  public int lower() {
+    return lower;
+  }
+
+  public OptionalInt upper() {
+    if (upper == UNBOUNDED) {
+      return OptionalInt.empty();
+    }
+
+    return OptionalInt.of(upper);
+  }
+
+  /** True, if the iterator yields exactly {@link SizeHint#lower} elements. */
+  public boolean isExact() {
+    return lower == upper;
+  }
+
+  /** The hint of iterators yielding one after another, e.g. for {@code chain}. */
+  public SizeHint plus(SizeHint other) {
+    var newLower = saturatingAdd(lower, other.lower);
+    if (upper == UNBOUNDED || other.upper == UNBOUNDED) {
+      return new SizeHint(newLower, UNBOUNDED);
+    }
+
+    var newUpper = upper + other.upper;
+    return new SizeHint(newLower, newUpper < 0 ? UNBOUNDED : newUpper);
+  }
+
+  /** The hint of iterator which yields at most given count of elements, e.g. for {@code take}. */
+  public SizeHint atMost(int count) {
+    var bound = Math.max(count, 0);
+    var newUpper = upper == UNBOUNDED ? bound : Math.min(upper, bound);
+    return new SizeHint(Math.min(lower, bound), newUpper);
+  }
+
+  /** The hint of iterator without first given count of elements, e.g. for {@code skip}. */
+  public SizeHint minus(int count) {
+    var bound = Math.max(count, 0);
+    var newUpper = upper == UNBOUNDED ? UNBOUNDED : Math.max(upper - bound, 0);
+    return new SizeHint(Math.max(lower - bound, 0), newUpper);
+  }
+
+  /** The hint of iterator which groups elements by given count, e.g. for {@code chunked}. */
+  public SizeHint chunks(int size) {
+    var newUpper = upper == UNBOUNDED ? UNBOUNDED : ceilDiv(upper, size);
+    return new SizeHint(ceilDiv(lower, size), newUpper);
+  }
+
+  /** The hint of iterator which may drop any element, e.g. for {@code filter}. */
+  public SizeHint withoutLower() {
+    return new SizeHint(0, upper);
+  }
+
+  private static int ceilDiv(int dividend, int divisor) {
+    return dividend / divisor + (dividend % divisor == 0 ? 0 : 1);
+  }
+
+  private static int saturatingAdd(int lhs, int rhs) {
+    var sum = lhs + rhs;
+    return sum < 0 ? Integer.MAX_VALUE : sum;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof SizeHint hint && lower == hint.lower && upper == hint.upper;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * lower + upper;
+  }
+
+  @Override
+  public String toString() {
+    return "SizeHint(" + lower + ", " + (upper == UNBOUNDED ? "None" : "Some(" + upper + ")") + ")";
+  }
+}
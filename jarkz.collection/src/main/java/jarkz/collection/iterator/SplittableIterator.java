@@ -0,0 +1,20 @@
+package jarkz.collection.iterator;
+
+import java.util.Optional;
+
+/**
+ * The iterator which can hand over a part of its remaining elements to another iterator, so both
+ * parts may be consumed by different threads. Use {@link SplittableIterator#parallel} to run the
+ * terminal operations on {@link java.util.concurrent.ForkJoinPool}.
+ */
+public interface SplittableIterator<T> extends Iterator<T> {
+  /**
+   * Splits off the front part of remaining elements and returns it as a new iterator, while this
+   * iterator keeps the rest. Returns empty value if the iterator is too small to split.
+   */
+  public Optional<SplittableIterator<T>> trySplit();
+
+  public default ParallelIterator<T> parallel() {
+    return new ParallelIterator<>(this);
+  }
+}
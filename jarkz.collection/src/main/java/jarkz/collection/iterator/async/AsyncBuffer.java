@@ -0,0 +1,168 @@
+package jarkz.collection.iterator.async;
+
+import jarkz.collection.unit.Unit;
+import jarkz.collection.vector.VecDeque;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The bounded buffer between a pushing producer and the pulling {@link AsyncIterator} consumer.
+ *
+ * <p>The future of {@link AsyncBuffer#offer} completes once the element fits into the buffer, so
+ * the producer which waits for it before the next offer never runs ahead of the consumer demand
+ * more than by {@code capacity} elements. Nobody parks a thread for it, so it suits event loops.
+ *
+ * <p>> <b>Note</b>: futures are completed outside of the lock, so their callbacks may call the
+ * buffer again.
+ */
+public class AsyncBuffer<T> implements AsyncIterator<T> {
+  private record Offer<T>(T element, CompletableFuture<Unit> accepted) {}
+
+  private final int capacity;
+  private final VecDeque<T> elements;
+  private VecDeque<Offer<T>> offers = new VecDeque<>();
+  private CompletableFuture<Optional<T>> waiting;
+  private boolean isClosed;
+  private boolean isCancelled;
+  private Throwable failure;
+
+  public AsyncBuffer(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+
+    this.capacity = capacity;
+    this.elements = VecDeque.withCapacity(capacity);
+  }
+
+  /**
+   * Puts the element to the buffer or hands it to the waiting consumer. The returned future
+   * completes when the element is accepted, and fails with {@link CancellationException} if the
+   * consumer cancels the buffer before it or has already cancelled it.
+   *
+   * @throws IllegalStateException if the buffer is closed by producer
+   */
+  public CompletableFuture<Unit> offer(T element) {
+    CompletableFuture<Optional<T>> consumer;
+    var accepted = new CompletableFuture<Unit>();
+    synchronized (this) {
+      if (isCancelled) {
+        return CompletableFuture.failedFuture(new CancellationException());
+      }
+
+      if (isClosed) {
+        throw new IllegalStateException("The buffer is closed");
+      }
+
+      consumer = waiting;
+      waiting = null;
+      if (consumer == null) {
+        if (elements.len() < capacity) {
+          elements.pushBack(element);
+          accepted.complete(Unit.INSTANCE);
+        } else {
+          offers.pushBack(new Offer<>(element, accepted));
+        }
+
+        return accepted;
+      }
+    }
+
+    consumer.complete(Optional.of(element));
+    accepted.complete(Unit.INSTANCE);
+    return accepted;
+  }
+
+  /** Ends the buffer: the consumer gets all already offered elements and then the end. */
+  public void close() {
+    finish(null);
+  }
+
+  /** Ends the buffer with failure, which the consumer gets after all already offered elements. */
+  public void fail(Throwable error) {
+    finish(error);
+  }
+
+  private void finish(Throwable error) {
+    CompletableFuture<Optional<T>> consumer;
+    synchronized (this) {
+      if (isClosed) {
+        return;
+      }
+
+      isClosed = true;
+      failure = error;
+      consumer = waiting;
+      waiting = null;
+    }
+
+    // The consumer waits only if there is nothing to take
+    if (consumer != null) {
+      complete(consumer, error);
+    }
+  }
+
+  @Override
+  public CompletableFuture<Optional<T>> next() {
+    T element;
+    Offer<T> offer;
+    synchronized (this) {
+      var head = elements.popFront();
+      if (head.isEmpty()) {
+        if (isClosed) {
+          var end = new CompletableFuture<Optional<T>>();
+          complete(end, failure);
+          return end;
+        }
+
+        waiting = new CompletableFuture<>();
+        return waiting;
+      }
+
+      element = head.get();
+      offer = offers.popFront().orElse(null);
+      if (offer != null) {
+        elements.pushBack(offer.element());
+      }
+    }
+
+    if (offer != null) {
+      offer.accepted().complete(Unit.INSTANCE);
+    }
+
+    return CompletableFuture.completedFuture(Optional.of(element));
+  }
+
+  @Override
+  public void cancel() {
+    VecDeque<Offer<T>> rejected;
+    CompletableFuture<Optional<T>> consumer;
+    synchronized (this) {
+      isClosed = true;
+      isCancelled = true;
+      elements.clear();
+      rejected = offers;
+      offers = new VecDeque<>();
+
+      consumer = waiting;
+      waiting = null;
+    }
+
+    if (consumer != null) {
+      consumer.complete(Optional.empty());
+    }
+
+    rejected
+        .intoIterator()
+        .forEach(offer -> offer.accepted().completeExceptionally(new CancellationException()));
+  }
+
+  private static <T> void complete(CompletableFuture<Optional<T>> future, Throwable error) {
+    if (error != null) {
+      future.completeExceptionally(error);
+    } else {
+      future.complete(Optional.empty());
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package jarkz.collection.iterator.async;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+public class AsyncFilter<T> implements AsyncIterator<T> {
+  private AsyncIterator<T> iterator;
+  private Predicate<T> checker;
+
+  public AsyncFilter(AsyncIterator<T> iterator, Predicate<T> checker) {
+    this.iterator = iterator;
+    this.checker = checker;
+  }
+
+  @Override
+  public CompletableFuture<Optional<T>> next() {
+    var result = new CompletableFuture<Optional<T>>();
+    Loop.run(
+            iterator,
+            element -> {
+              if (checker.test(element)) {
+                result.complete(Optional.of(element));
+                return false;
+              }
+
+              return true;
+            })
+        .whenComplete(
+            (unit, error) -> {
+              // It does nothing if the element is already found
+              if (error != null) {
+                result.completeExceptionally(error);
+              } else {
+                result.complete(Optional.empty());
+              }
+            });
+
+    return result;
+  }
+
+  @Override
+  public void cancel() {
+    iterator.cancel();
+  }
+}
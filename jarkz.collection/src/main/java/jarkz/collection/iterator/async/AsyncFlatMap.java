@@ -0,0 +1,76 @@
+package jarkz.collection.iterator.async;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+public class AsyncFlatMap<T, R> implements AsyncIterator<R> {
+  private AsyncIterator<T> iterator;
+  private Function<T, AsyncIterator<R>> mapper;
+  private AsyncIterator<R> currentIterator;
+
+  public AsyncFlatMap(AsyncIterator<T> iterator, Function<T, AsyncIterator<R>> mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public CompletableFuture<Optional<R>> next() {
+    var result = new CompletableFuture<Optional<R>>();
+    // Pulls the current inner iterator and the outer one by turns, so the run of empty inner
+    // iterators doesn't grow the stack
+    Loop.<Optional<?>>drive(
+        () -> currentIterator != null ? currentIterator.next() : iterator.next(),
+        (element, error) -> {
+          if (error != null) {
+            result.completeExceptionally(error);
+            return false;
+          }
+
+          try {
+            return advance(element, result);
+          } catch (Throwable e) {
+            result.completeExceptionally(e);
+            return false;
+          }
+        });
+
+    return result;
+  }
+
+  /** Returns true if the next element isn't found yet. */
+  private boolean advance(Optional<?> element, CompletableFuture<Optional<R>> result) {
+    if (currentIterator != null) {
+      if (element.isEmpty()) {
+        currentIterator = null;
+        return true;
+      }
+
+      @SuppressWarnings("unchecked")
+      // SAFETY: the element is taken from the current inner iterator of R values
+      var inner = (Optional<R>) element;
+      result.complete(inner);
+      return false;
+    }
+
+    if (element.isEmpty()) {
+      result.complete(Optional.empty());
+      return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    // SAFETY: the element is taken from the outer iterator of T values
+    var outer = (T) element.get();
+    currentIterator = mapper.apply(outer);
+    return true;
+  }
+
+  @Override
+  public void cancel() {
+    if (currentIterator != null) {
+      currentIterator.cancel();
+    }
+
+    iterator.cancel();
+  }
+}
@@ -0,0 +1,106 @@
+package jarkz.collection.iterator.async;
+
+import jarkz.collection.iterator.IntoIterator;
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.unit.Unit;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * The non-blocking counterpart of {@link Iterator}, where {@link AsyncIterator#next} returns the
+ * future of next element instead of waiting for it. So the code on event loop can use the same
+ * adapters without parking threads.
+ *
+ * <p>The consumer asks for the next element only after the previous future completes, so the
+ * source produces exactly as many elements as demanded, and it's the backpressure by itself. Don't
+ * call {@link AsyncIterator#next} again until the previous future completes.
+ *
+ * <p>> <b>Note</b>: terminal operations handle already completed futures in a loop instead of
+ * chaining callbacks, so the long synchronous source doesn't overflow the stack.
+ */
+public interface AsyncIterator<T> {
+  public CompletableFuture<Optional<T>> next();
+
+  /** Creates the AsyncIterator&lt;T&gt; which calls the blocking iterator on the caller thread. */
+  public static <T> AsyncIterator<T> from(Iterator<T> iterator) {
+    return new IterAsync<>(iterator, null);
+  }
+
+  /**
+   * Creates the AsyncIterator&lt;T&gt; which calls the blocking iterator on the given executor, so
+   * the caller thread never waits for it.
+   */
+  public static <T> AsyncIterator<T> from(Iterator<T> iterator, Executor executor) {
+    return new IterAsync<>(iterator, executor);
+  }
+
+  public static <T> AsyncIterator<T> from(IntoIterator<T, ?> source) {
+    return from(source.intoIterator());
+  }
+
+  public default <R> AsyncMap<T, R> map(Function<T, R> mapper) {
+    return new AsyncMap<>(this, mapper);
+  }
+
+  public default AsyncFilter<T> filter(Predicate<T> checker) {
+    return new AsyncFilter<>(this, checker);
+  }
+
+  public default <R> AsyncFlatMap<T, R> flatMap(Function<T, AsyncIterator<R>> mapper) {
+    return new AsyncFlatMap<>(this, mapper);
+  }
+
+  public default AsyncTake<T> take(int count) {
+    return new AsyncTake<>(this, count);
+  }
+
+  /**
+   * Returns the blocking {@link Iterator} which waits for each element, e.g. to consume the async
+   * source on a virtual thread.
+   */
+  public default BlockingIterator<T> blocking() {
+    return new BlockingIterator<>(this);
+  }
+
+  public default <R> CompletableFuture<R> fold(
+      final R initialValue, BiFunction<R, T, R> accumulator) {
+    var result = new Object[] {initialValue};
+    return Loop.run(
+            this,
+            element -> {
+              @SuppressWarnings("unchecked")
+              // SAFETY: the array holds only the accumulated value of type R
+              var accumulated = accumulator.apply((R) result[0], element);
+              result[0] = accumulated;
+              return true;
+            })
+        .thenApply(
+            unit -> {
+              @SuppressWarnings("unchecked")
+              // SAFETY: the array holds only the accumulated value of type R
+              var accumulated = (R) result[0];
+              return accumulated;
+            });
+  }
+
+  /** Passes all elements to the given body and completes when the iterator ends. */
+  public default CompletableFuture<Unit> forEach(Consumer<T> body) {
+    return Loop.run(
+        this,
+        element -> {
+          body.accept(element);
+          return true;
+        });
+  }
+
+  /**
+   * Tells the iterator that its owner won't pull elements anymore, see {@link Iterator#cancel}.
+   * Adapters forward it to their sources.
+   */
+  public default void cancel() {}
+}
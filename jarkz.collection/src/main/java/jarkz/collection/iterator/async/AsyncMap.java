@@ -0,0 +1,25 @@
+package jarkz.collection.iterator.async;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+public class AsyncMap<T, R> implements AsyncIterator<R> {
+  private AsyncIterator<T> iterator;
+  private Function<T, R> mapper;
+
+  public AsyncMap(AsyncIterator<T> iterator, Function<T, R> mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public CompletableFuture<Optional<R>> next() {
+    return iterator.next().thenApply(element -> element.map(mapper));
+  }
+
+  @Override
+  public void cancel() {
+    iterator.cancel();
+  }
+}
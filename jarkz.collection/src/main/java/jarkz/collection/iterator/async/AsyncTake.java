@@ -0,0 +1,29 @@
+package jarkz.collection.iterator.async;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public class AsyncTake<T> implements AsyncIterator<T> {
+  private AsyncIterator<T> iterator;
+  private int count;
+
+  public AsyncTake(AsyncIterator<T> iterator, int count) {
+    this.iterator = iterator;
+    this.count = count;
+  }
+
+  @Override
+  public CompletableFuture<Optional<T>> next() {
+    if (count <= 0) {
+      return CompletableFuture.completedFuture(Optional.empty());
+    }
+
+    count -= 1;
+    return iterator.next();
+  }
+
+  @Override
+  public void cancel() {
+    iterator.cancel();
+  }
+}
@@ -0,0 +1,40 @@
+package jarkz.collection.iterator.async;
+
+import jarkz.collection.iterator.Iterator;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+
+/** Adapts {@link AsyncIterator} to the blocking {@link Iterator} by waiting for each element. */
+public class BlockingIterator<T> implements Iterator<T> {
+  private AsyncIterator<T> iterator;
+
+  public BlockingIterator(AsyncIterator<T> iterator) {
+    this.iterator = iterator;
+  }
+
+  @Override
+  public Optional<T> next() {
+    try {
+      return iterator.next().join();
+    } catch (CompletionException e) {
+      var cause = Loop.unwrap(e);
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+
+      if (cause instanceof Error error) {
+        throw error;
+      }
+
+      throw e;
+    } catch (CancellationException e) {
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void cancel() {
+    iterator.cancel();
+  }
+}
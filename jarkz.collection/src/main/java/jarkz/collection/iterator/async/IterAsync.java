@@ -0,0 +1,38 @@
+package jarkz.collection.iterator.async;
+
+import jarkz.collection.iterator.Iterator;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Adapts the blocking {@link Iterator} to {@link AsyncIterator}. Without executor it calls the
+ * iterator on the caller thread, so use it only for sources which don't block.
+ */
+public class IterAsync<T> implements AsyncIterator<T> {
+  private Iterator<T> iterator;
+  private Executor executor;
+
+  IterAsync(Iterator<T> iterator, Executor executor) {
+    this.iterator = iterator;
+    this.executor = executor;
+  }
+
+  @Override
+  public CompletableFuture<Optional<T>> next() {
+    if (executor != null) {
+      return CompletableFuture.supplyAsync(iterator::next, executor);
+    }
+
+    try {
+      return CompletableFuture.completedFuture(iterator.next());
+    } catch (Throwable e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  @Override
+  public void cancel() {
+    iterator.cancel();
+  }
+}
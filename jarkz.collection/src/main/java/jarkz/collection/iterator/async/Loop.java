@@ -0,0 +1,107 @@
+package jarkz.collection.iterator.async;
+
+import jarkz.collection.unit.Unit;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Pulls elements of {@link AsyncIterator} by trampoline: completed futures are handled in a loop
+ * and only pending ones get a callback, so the stack doesn't grow with count of elements.
+ */
+final class Loop {
+  private Loop() {}
+
+  /**
+   * Passes elements to the step until it returns false or the iterator ends. The returned future
+   * fails if the iterator or the step fails.
+   */
+  static <T> CompletableFuture<Unit> run(AsyncIterator<T> iterator, Predicate<T> step) {
+    var done = new CompletableFuture<Unit>();
+    drive(iterator::next, (element, error) -> handle(element, error, step, done));
+    return done;
+  }
+
+  /**
+   * Takes futures from the source and passes their outcomes to the handler, either the value or the
+   * failure, until the handler returns false. The handler must not throw.
+   */
+  static <V> void drive(
+      Supplier<CompletableFuture<? extends V>> source, BiPredicate<V, Throwable> handler) {
+    while (true) {
+      CompletableFuture<? extends V> future;
+      try {
+        future = source.get();
+      } catch (Throwable e) {
+        handler.test(null, e);
+        return;
+      }
+
+      if (!future.isDone()) {
+        // Whoever comes second continues the loop: the callback if the future completes later,
+        // or this loop if the callback has already run while it was registered
+        var handoff = new AtomicBoolean();
+        future.whenComplete(
+            (value, error) -> {
+              if (!handoff.compareAndSet(false, true) && handler.test(value, unwrap(error))) {
+                drive(source, handler);
+              }
+            });
+
+        if (handoff.compareAndSet(false, true)) {
+          return;
+        }
+      }
+
+      V value;
+      try {
+        value = future.join();
+      } catch (Throwable e) {
+        handler.test(null, unwrap(e));
+        return;
+      }
+
+      if (!handler.test(value, null)) {
+        return;
+      }
+    }
+  }
+
+  /** Returns true if the loop must continue. */
+  private static <T> boolean handle(
+      Optional<T> element, Throwable error, Predicate<T> step, CompletableFuture<Unit> done) {
+    if (error != null) {
+      done.completeExceptionally(error);
+      return false;
+    }
+
+    if (element.isEmpty()) {
+      done.complete(Unit.INSTANCE);
+      return false;
+    }
+
+    try {
+      if (!step.test(element.get())) {
+        done.complete(Unit.INSTANCE);
+        return false;
+      }
+    } catch (Throwable e) {
+      done.completeExceptionally(e);
+      return false;
+    }
+
+    return true;
+  }
+
+  static Throwable unwrap(Throwable error) {
+    if (error instanceof CompletionException && error.getCause() != null) {
+      return error.getCause();
+    }
+
+    return error;
+  }
+}
@@ -1,7 +1,9 @@
 package jarkz.collection.iterator.functools;
 
 import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public class Chain<T> implements Iterator<T> {
   private Iterator<T> leftIterator;
@@ -12,8 +14,30 @@ public class Chain<T> implements Iterator<T> {
     this.rightIterator = rightIterator;
   }
 
+  @Override
+  public SizeHint sizeHint() {
+    return leftIterator.sizeHint().plus(rightIterator.sizeHint());
+  }
+
   @Override
   public Optional<T> next() {
     return leftIterator.next().or(() -> rightIterator.next());
   }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> action) {
+    return leftIterator.tryAdvance(action) || rightIterator.tryAdvance(action);
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    leftIterator.forEach(body);
+    rightIterator.forEach(body);
+  }
+
+  @Override
+  public void cancel() {
+    leftIterator.cancel();
+    rightIterator.cancel();
+  }
 }
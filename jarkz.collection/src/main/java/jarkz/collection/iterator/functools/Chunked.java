@@ -0,0 +1,90 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
+import jarkz.collection.vector.Vector;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Groups elements into {@link Vector} batches of given size, where only the last batch may be
+ * smaller. Each batch is presized, so filling it never reallocates.
+ *
+ * <p>The consumer may hand the processed batch back by {@link Chunked#recycle}, then the next batch
+ * reuses its buffer instead of allocating a new one.
+ */
+public class Chunked<T> implements Iterator<Vector<T>> {
+  private Iterator<T> iterator;
+  private int size;
+  private Vector<T> recycled;
+
+  public Chunked(Iterator<T> iterator, int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("The size of chunk must be positive: " + size);
+    }
+
+    this.iterator = iterator;
+    this.size = size;
+  }
+
+  /**
+   * Gives the batch back, so the next one will be filled into it. The batch must not be used after
+   * that.
+   */
+  public void recycle(Vector<T> batch) {
+    if (batch.capacity() >= size) {
+      batch.clear();
+      recycled = batch;
+    }
+  }
+
+  private Vector<T> newBatch() {
+    if (recycled == null) {
+      return Vector.withCapacity(size);
+    }
+
+    var batch = recycled;
+    recycled = null;
+    return batch;
+  }
+
+  /** Fills the batch and returns it, or returns null and keeps it for later if it stays empty. */
+  private Vector<T> fill() {
+    var batch = newBatch();
+    Consumer<T> push = batch::push;
+    while (batch.len() < size && iterator.tryAdvance(push)) {}
+
+    if (batch.isEmpty()) {
+      recycled = batch;
+      return null;
+    }
+
+    return batch;
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    return iterator.sizeHint().chunks(size);
+  }
+
+  @Override
+  public Optional<Vector<T>> next() {
+    return Optional.ofNullable(fill());
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<Vector<T>> action) {
+    var batch = fill();
+    if (batch == null) {
+      return false;
+    }
+
+    action.accept(batch);
+    return true;
+  }
+
+  @Override
+  public void cancel() {
+    iterator.cancel();
+  }
+}
@@ -0,0 +1,134 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
+import jarkz.collection.vector.Vector;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Groups elements into {@link Vector} batches which are emitted when they reach given size or
+ * when the timeout elapses since the first element of batch, so the slow streaming source doesn't
+ * hold elements for too long.
+ *
+ * <p>The source is pulled by {@link Prefetch} on a virtual thread, and the batch waits for the
+ * next element only until its deadline. So the partial batch is emitted in time even if the source
+ * blocks, while the waiting for the first element of batch is not limited.
+ *
+ * <p>> <b>Note</b>: close the iterator if you stop pulling batches before the end, otherwise the
+ * prefetching thread stays parked on the full buffer.
+ */
+public class ChunkedTimeout<T> implements Iterator<Vector<T>>, AutoCloseable {
+  // The consumer drains the buffer while the batch is filled, so it needn't hold the whole batch
+  private static final int MAX_BUFFER = 1 << 10;
+
+  private Prefetch<T> source;
+  private int size;
+  private long timeoutNanos;
+  private Vector<T> recycled;
+
+  public ChunkedTimeout(Iterator<T> iterator, int size, Duration timeout) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("The size of chunk must be positive: " + size);
+    }
+
+    if (timeout.isNegative()) {
+      throw new IllegalArgumentException("The timeout must be non negative: " + timeout);
+    }
+
+    this.source = new Prefetch<>(iterator, Math.min(size, MAX_BUFFER));
+    this.size = size;
+    this.timeoutNanos = saturatedNanos(timeout);
+  }
+
+  /**
+   * Gives the batch back, so the next one will be filled into it. The batch must not be used after
+   * that.
+   */
+  public void recycle(Vector<T> batch) {
+    if (batch.capacity() >= size) {
+      batch.clear();
+      recycled = batch;
+    }
+  }
+
+  private static long saturatedNanos(Duration timeout) {
+    try {
+      return timeout.toNanos();
+    } catch (ArithmeticException e) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private Vector<T> newBatch() {
+    if (recycled == null) {
+      return Vector.withCapacity(size);
+    }
+
+    var batch = recycled;
+    recycled = null;
+    return batch;
+  }
+
+  /** Fills the batch and returns it, or returns null and keeps it for later if it stays empty. */
+  @SuppressWarnings("unchecked")
+  private Vector<T> fill() {
+    var batch = newBatch();
+    if (!source.tryAdvance(batch::push)) {
+      recycled = batch;
+      return null;
+    }
+
+    // It may overflow for the huge timeout, but nanoTime is compared only by difference
+    var deadline = System.nanoTime() + timeoutNanos;
+    while (batch.len() < size) {
+      var element = source.poll(deadline);
+      if (element == null || element == Prefetch.TIMEOUT) {
+        break;
+      }
+
+      // SAFETY: the prefetch returns only elements of source besides TIMEOUT
+      batch.push((T) element);
+    }
+
+    return batch;
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    // Batches may be cut by timeout, so only the count of elements limits them
+    var hint = source.sizeHint();
+    var lower = hint.chunks(size).lower();
+    return hint.upper().isPresent()
+        ? SizeHint.between(lower, hint.upper().getAsInt())
+        : SizeHint.atLeast(lower);
+  }
+
+  @Override
+  public Optional<Vector<T>> next() {
+    return Optional.ofNullable(fill());
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<Vector<T>> action) {
+    var batch = fill();
+    if (batch == null) {
+      return false;
+    }
+
+    action.accept(batch);
+    return true;
+  }
+
+  @Override
+  public void cancel() {
+    source.cancel();
+  }
+
+  /** The same as {@link #cancel}, so it fits try-with-resources. */
+  @Override
+  public void close() {
+    cancel();
+  }
+}
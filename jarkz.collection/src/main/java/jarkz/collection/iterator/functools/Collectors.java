@@ -0,0 +1,107 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.maybe.Maybe;
+import jarkz.collection.result.Result;
+import jarkz.collection.vector.Vector;
+import java.util.function.Consumer;
+
+/**
+ * The built-in {@link Collector} implementations for {@link Iterator#collect}. The collectors of
+ * {@link Result} and {@link Maybe} stop at the first Err or None and don't pull further elements.
+ */
+public final class Collectors {
+  private Collectors() {}
+
+  /** The Ok and Err values which {@link Collectors#partitionResults} splits the elements into. */
+  public record Partition<T, E>(Vector<T> oks, Vector<E> errs) {}
+
+  /**
+   * Collects Ok values into {@link Vector} or returns the first Err. The vector is presized by
+   * {@link Iterator#sizeHint}, so it doesn't reallocate when the hint is exact.
+   */
+  public static <T, E> Collector<Result<T, E>, Result<Vector<T>, E>> results() {
+    return new Collector<>() {
+      @Override
+      public <I extends Iterator<Result<T, E>>> Result<Vector<T>, E> collect(I iterator) {
+        var oks = Vector.<T>withCapacity(iterator.sizeHint().lower());
+        var error = Maybe.<E>None();
+        Consumer<Result<T, E>> step =
+            element -> {
+              if (element.isOk()) {
+                oks.push(element.unwrapUnchecked());
+              } else {
+                error.insert(element.unwrapErrUnchecked());
+              }
+            };
+
+        while (error.isNone() && iterator.tryAdvance(step)) {}
+
+        return error.isSome() ? Result.Err(error.unwrapUnchecked()) : Result.Ok(oks);
+      }
+    };
+  }
+
+  /**
+   * Collects existing values into {@link Vector} or returns None at the first empty value. The
+   * vector is presized by {@link Iterator#sizeHint}.
+   */
+  public static <T> Collector<Maybe<T>, Maybe<Vector<T>>> maybes() {
+    return new Collector<>() {
+      @Override
+      public <I extends Iterator<Maybe<T>>> Maybe<Vector<T>> collect(I iterator) {
+        var values = Vector.<T>withCapacity(iterator.sizeHint().lower());
+        var found = new boolean[] {false};
+        Consumer<Maybe<T>> step =
+            element -> {
+              if (element.isSome()) {
+                values.push(element.unwrapUnchecked());
+              } else {
+                found[0] = true;
+              }
+            };
+
+        while (!found[0] && iterator.tryAdvance(step)) {}
+
+        return found[0] ? Maybe.None() : Maybe.Some(values);
+      }
+    };
+  }
+
+  /**
+   * Splits Ok and Err values into two vectors in one pass. The vector of Ok values is presized by
+   * {@link Iterator#sizeHint}, because errors are expected to be rare.
+   */
+  public static <T, E> Collector<Result<T, E>, Partition<T, E>> partitionResults() {
+    return new Collector<>() {
+      @Override
+      public <I extends Iterator<Result<T, E>>> Partition<T, E> collect(I iterator) {
+        var oks = Vector.<T>withCapacity(iterator.sizeHint().lower());
+        return partitionResults(oks, new Vector<E>()).collect(iterator);
+      }
+    };
+  }
+
+  /**
+   * Splits Ok and Err values in one pass and appends them into the given vectors, so the caller can
+   * preallocate them or reuse them between batches.
+   */
+  public static <T, E> Collector<Result<T, E>, Partition<T, E>> partitionResults(
+      Vector<T> oks, Vector<E> errs) {
+    return new Collector<>() {
+      @Override
+      public <I extends Iterator<Result<T, E>>> Partition<T, E> collect(I iterator) {
+        iterator.forEach(
+            element -> {
+              if (element.isOk()) {
+                oks.push(element.unwrapUnchecked());
+              } else {
+                errs.push(element.unwrapErrUnchecked());
+              }
+            });
+
+        return new Partition<>(oks, errs);
+      }
+    };
+  }
+}
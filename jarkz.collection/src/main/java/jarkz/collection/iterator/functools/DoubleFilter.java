@@ -0,0 +1,34 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.DoubleIterator;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+
+public class DoubleFilter implements DoubleIterator {
+  private DoubleIterator iterator;
+  private DoublePredicate checker;
+
+  public DoubleFilter(DoubleIterator iterator, DoublePredicate checker) {
+    this.iterator = iterator;
+    this.checker = checker;
+  }
+
+  @Override
+  public OptionalDouble next() {
+    OptionalDouble element;
+    while ((element = iterator.next()).isPresent() && !checker.test(element.getAsDouble())) {}
+
+    return element;
+  }
+
+  @Override
+  public void forEach(DoubleConsumer body) {
+    iterator.forEach(
+        element -> {
+          if (checker.test(element)) {
+            body.accept(element);
+          }
+        });
+  }
+}
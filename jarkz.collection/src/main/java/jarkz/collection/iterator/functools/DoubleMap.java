@@ -0,0 +1,31 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.DoubleIterator;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleUnaryOperator;
+
+public class DoubleMap implements DoubleIterator {
+  private DoubleIterator iterator;
+  private DoubleUnaryOperator mapper;
+
+  public DoubleMap(DoubleIterator iterator, DoubleUnaryOperator mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public OptionalDouble next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return element;
+    }
+
+    return OptionalDouble.of(mapper.applyAsDouble(element.getAsDouble()));
+  }
+
+  @Override
+  public void forEach(DoubleConsumer body) {
+    iterator.forEach(element -> body.accept(mapper.applyAsDouble(element)));
+  }
+}
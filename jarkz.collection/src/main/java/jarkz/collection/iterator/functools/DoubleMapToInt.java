@@ -0,0 +1,32 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.DoubleIterator;
+import jarkz.collection.iterator.IntIterator;
+import java.util.OptionalInt;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.IntConsumer;
+
+public class DoubleMapToInt implements IntIterator {
+  private DoubleIterator iterator;
+  private DoubleToIntFunction mapper;
+
+  public DoubleMapToInt(DoubleIterator iterator, DoubleToIntFunction mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public OptionalInt next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return OptionalInt.empty();
+    }
+
+    return OptionalInt.of(mapper.applyAsInt(element.getAsDouble()));
+  }
+
+  @Override
+  public void forEach(IntConsumer body) {
+    iterator.forEach(element -> body.accept(mapper.applyAsInt(element)));
+  }
+}
@@ -0,0 +1,32 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.DoubleIterator;
+import jarkz.collection.iterator.LongIterator;
+import java.util.OptionalLong;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.LongConsumer;
+
+public class DoubleMapToLong implements LongIterator {
+  private DoubleIterator iterator;
+  private DoubleToLongFunction mapper;
+
+  public DoubleMapToLong(DoubleIterator iterator, DoubleToLongFunction mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public OptionalLong next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return OptionalLong.empty();
+    }
+
+    return OptionalLong.of(mapper.applyAsLong(element.getAsDouble()));
+  }
+
+  @Override
+  public void forEach(LongConsumer body) {
+    iterator.forEach(element -> body.accept(mapper.applyAsLong(element)));
+  }
+}
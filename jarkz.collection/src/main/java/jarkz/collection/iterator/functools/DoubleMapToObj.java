@@ -0,0 +1,32 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.DoubleIterator;
+import jarkz.collection.iterator.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.DoubleFunction;
+
+public class DoubleMapToObj<R> implements Iterator<R> {
+  private DoubleIterator iterator;
+  private DoubleFunction<R> mapper;
+
+  public DoubleMapToObj(DoubleIterator iterator, DoubleFunction<R> mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public Optional<R> next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(mapper.apply(element.getAsDouble()));
+  }
+
+  @Override
+  public void forEach(Consumer<R> body) {
+    iterator.forEach(element -> body.accept(mapper.apply(element)));
+  }
+}
@@ -1,18 +1,26 @@
 package jarkz.collection.iterator.functools;
 
 import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 public class Filter<T> implements Iterator<T> {
   private Iterator<T> iterator;
   private Predicate<T> checker;
+  private boolean matched = false;
 
   public Filter(Iterator<T> iterator, Predicate<T> checker) {
     this.iterator = iterator;
     this.checker = checker;
   }
 
+  @Override
+  public SizeHint sizeHint() {
+    return iterator.sizeHint().withoutLower();
+  }
+
   @Override
   public Optional<T> next() {
     Optional<T> element;
@@ -20,4 +28,35 @@ public class Filter<T> implements Iterator<T> {
 
     return element;
   }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> action) {
+    matched = false;
+    Consumer<T> probe =
+        element -> {
+          if (checker.test(element)) {
+            matched = true;
+            action.accept(element);
+          }
+        };
+
+    while (!matched && iterator.tryAdvance(probe)) {}
+
+    return matched;
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    iterator.forEach(
+        element -> {
+          if (checker.test(element)) {
+            body.accept(element);
+          }
+        });
+  }
+
+  @Override
+  public void cancel() {
+    iterator.cancel();
+  }
 }
@@ -1,18 +1,26 @@
 package jarkz.collection.iterator.functools;
 
 import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public class FilterMap<T, R> implements Iterator<R> {
   private Iterator<T> iterator;
   private Function<T, Optional<R>> mapper;
+  private boolean matched = false;
 
   public FilterMap(Iterator<T> iterator, Function<T, Optional<R>> mapper) {
     this.iterator = iterator;
     this.mapper = mapper;
   }
 
+  @Override
+  public SizeHint sizeHint() {
+    return iterator.sizeHint().withoutLower();
+  }
+
   @Override
   public Optional<R> next() {
     Optional<T> element;
@@ -24,4 +32,31 @@ public class FilterMap<T, R> implements Iterator<R> {
 
     return mappedElement;
   }
+
+  @Override
+  public boolean tryAdvance(Consumer<R> action) {
+    matched = false;
+    Consumer<T> probe =
+        element -> {
+          var mappedElement = mapper.apply(element);
+          if (mappedElement.isPresent()) {
+            matched = true;
+            action.accept(mappedElement.get());
+          }
+        };
+
+    while (!matched && iterator.tryAdvance(probe)) {}
+
+    return matched;
+  }
+
+  @Override
+  public void forEach(Consumer<R> body) {
+    iterator.forEach(element -> mapper.apply(element).ifPresent(body));
+  }
+
+  @Override
+  public void cancel() {
+    iterator.cancel();
+  }
 }
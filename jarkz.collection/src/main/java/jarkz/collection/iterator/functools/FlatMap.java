@@ -2,6 +2,7 @@ package jarkz.collection.iterator.functools;
 
 import jarkz.collection.iterator.Iterator;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public class FlatMap<T, R> implements Iterator<R> {
@@ -30,4 +31,33 @@ public class FlatMap<T, R> implements Iterator<R> {
 
     return Optional.empty();
   }
+
+  @Override
+  public boolean tryAdvance(Consumer<R> action) {
+    if (currentIterator.isPresent() && currentIterator.get().tryAdvance(action)) {
+      return true;
+    }
+
+    while ((currentIterator = iterator.next().map(mapper)).isPresent()) {
+      if (currentIterator.get().tryAdvance(action)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  @Override
+  public void forEach(Consumer<R> body) {
+    currentIterator.ifPresent(current -> current.forEach(body));
+    currentIterator = Optional.empty();
+
+    iterator.forEach(element -> mapper.apply(element).forEach(body));
+  }
+
+  @Override
+  public void cancel() {
+    currentIterator.ifPresent(Iterator::cancel);
+    iterator.cancel();
+  }
 }
@@ -0,0 +1,34 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.IntIterator;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+
+public class IntFilter implements IntIterator {
+  private IntIterator iterator;
+  private IntPredicate checker;
+
+  public IntFilter(IntIterator iterator, IntPredicate checker) {
+    this.iterator = iterator;
+    this.checker = checker;
+  }
+
+  @Override
+  public OptionalInt next() {
+    OptionalInt element;
+    while ((element = iterator.next()).isPresent() && !checker.test(element.getAsInt())) {}
+
+    return element;
+  }
+
+  @Override
+  public void forEach(IntConsumer body) {
+    iterator.forEach(
+        element -> {
+          if (checker.test(element)) {
+            body.accept(element);
+          }
+        });
+  }
+}
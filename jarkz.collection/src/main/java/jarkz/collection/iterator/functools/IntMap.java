@@ -0,0 +1,31 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.IntIterator;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.IntUnaryOperator;
+
+public class IntMap implements IntIterator {
+  private IntIterator iterator;
+  private IntUnaryOperator mapper;
+
+  public IntMap(IntIterator iterator, IntUnaryOperator mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public OptionalInt next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return element;
+    }
+
+    return OptionalInt.of(mapper.applyAsInt(element.getAsInt()));
+  }
+
+  @Override
+  public void forEach(IntConsumer body) {
+    iterator.forEach(element -> body.accept(mapper.applyAsInt(element)));
+  }
+}
@@ -0,0 +1,32 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.DoubleIterator;
+import jarkz.collection.iterator.IntIterator;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntToDoubleFunction;
+
+public class IntMapToDouble implements DoubleIterator {
+  private IntIterator iterator;
+  private IntToDoubleFunction mapper;
+
+  public IntMapToDouble(IntIterator iterator, IntToDoubleFunction mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public OptionalDouble next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return OptionalDouble.empty();
+    }
+
+    return OptionalDouble.of(mapper.applyAsDouble(element.getAsInt()));
+  }
+
+  @Override
+  public void forEach(DoubleConsumer body) {
+    iterator.forEach(element -> body.accept(mapper.applyAsDouble(element)));
+  }
+}
@@ -0,0 +1,32 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.IntIterator;
+import jarkz.collection.iterator.LongIterator;
+import java.util.OptionalLong;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongConsumer;
+
+public class IntMapToLong implements LongIterator {
+  private IntIterator iterator;
+  private IntToLongFunction mapper;
+
+  public IntMapToLong(IntIterator iterator, IntToLongFunction mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public OptionalLong next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return OptionalLong.empty();
+    }
+
+    return OptionalLong.of(mapper.applyAsLong(element.getAsInt()));
+  }
+
+  @Override
+  public void forEach(LongConsumer body) {
+    iterator.forEach(element -> body.accept(mapper.applyAsLong(element)));
+  }
+}
@@ -0,0 +1,32 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.IntIterator;
+import jarkz.collection.iterator.Iterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+public class IntMapToObj<R> implements Iterator<R> {
+  private IntIterator iterator;
+  private IntFunction<R> mapper;
+
+  public IntMapToObj(IntIterator iterator, IntFunction<R> mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public Optional<R> next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(mapper.apply(element.getAsInt()));
+  }
+
+  @Override
+  public void forEach(Consumer<R> body) {
+    iterator.forEach(element -> body.accept(mapper.apply(element)));
+  }
+}
@@ -0,0 +1,34 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.LongIterator;
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+public class LongFilter implements LongIterator {
+  private LongIterator iterator;
+  private LongPredicate checker;
+
+  public LongFilter(LongIterator iterator, LongPredicate checker) {
+    this.iterator = iterator;
+    this.checker = checker;
+  }
+
+  @Override
+  public OptionalLong next() {
+    OptionalLong element;
+    while ((element = iterator.next()).isPresent() && !checker.test(element.getAsLong())) {}
+
+    return element;
+  }
+
+  @Override
+  public void forEach(LongConsumer body) {
+    iterator.forEach(
+        element -> {
+          if (checker.test(element)) {
+            body.accept(element);
+          }
+        });
+  }
+}
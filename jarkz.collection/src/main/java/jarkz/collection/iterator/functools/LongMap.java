@@ -0,0 +1,31 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.LongIterator;
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+import java.util.function.LongUnaryOperator;
+
+public class LongMap implements LongIterator {
+  private LongIterator iterator;
+  private LongUnaryOperator mapper;
+
+  public LongMap(LongIterator iterator, LongUnaryOperator mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public OptionalLong next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return element;
+    }
+
+    return OptionalLong.of(mapper.applyAsLong(element.getAsLong()));
+  }
+
+  @Override
+  public void forEach(LongConsumer body) {
+    iterator.forEach(element -> body.accept(mapper.applyAsLong(element)));
+  }
+}
@@ -0,0 +1,32 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.DoubleIterator;
+import jarkz.collection.iterator.LongIterator;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongToDoubleFunction;
+
+public class LongMapToDouble implements DoubleIterator {
+  private LongIterator iterator;
+  private LongToDoubleFunction mapper;
+
+  public LongMapToDouble(LongIterator iterator, LongToDoubleFunction mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public OptionalDouble next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return OptionalDouble.empty();
+    }
+
+    return OptionalDouble.of(mapper.applyAsDouble(element.getAsLong()));
+  }
+
+  @Override
+  public void forEach(DoubleConsumer body) {
+    iterator.forEach(element -> body.accept(mapper.applyAsDouble(element)));
+  }
+}
@@ -0,0 +1,32 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.IntIterator;
+import jarkz.collection.iterator.LongIterator;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.LongToIntFunction;
+
+public class LongMapToInt implements IntIterator {
+  private LongIterator iterator;
+  private LongToIntFunction mapper;
+
+  public LongMapToInt(LongIterator iterator, LongToIntFunction mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public OptionalInt next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return OptionalInt.empty();
+    }
+
+    return OptionalInt.of(mapper.applyAsInt(element.getAsLong()));
+  }
+
+  @Override
+  public void forEach(IntConsumer body) {
+    iterator.forEach(element -> body.accept(mapper.applyAsInt(element)));
+  }
+}
@@ -0,0 +1,32 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.LongIterator;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+public class LongMapToObj<R> implements Iterator<R> {
+  private LongIterator iterator;
+  private LongFunction<R> mapper;
+
+  public LongMapToObj(LongIterator iterator, LongFunction<R> mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public Optional<R> next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return Optional.empty();
+    }
+
+    return Optional.of(mapper.apply(element.getAsLong()));
+  }
+
+  @Override
+  public void forEach(Consumer<R> body) {
+    iterator.forEach(element -> body.accept(mapper.apply(element)));
+  }
+}
@@ -1,7 +1,9 @@
 package jarkz.collection.iterator.functools;
 
 import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public class Map<T, R> implements Iterator<R> {
@@ -13,8 +15,28 @@ public class Map<T, R> implements Iterator<R> {
     this.mapper = mapper;
   }
 
+  @Override
+  public SizeHint sizeHint() {
+    return iterator.sizeHint();
+  }
+
   @Override
   public Optional<R> next() {
     return iterator.next().map(mapper);
   }
+
+  @Override
+  public boolean tryAdvance(Consumer<R> action) {
+    return iterator.tryAdvance(element -> action.accept(mapper.apply(element)));
+  }
+
+  @Override
+  public void forEach(Consumer<R> body) {
+    iterator.forEach(element -> body.accept(mapper.apply(element)));
+  }
+
+  @Override
+  public void cancel() {
+    iterator.cancel();
+  }
 }
@@ -0,0 +1,125 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
+import jarkz.collection.vector.VecDeque;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Maps elements on virtual threads, where up to given count of mapper calls run at once, and
+ * yields the results in the order of source. It's useful for mappers which block, e.g. on I/O.
+ *
+ * <p>The iterator pulls the source only to keep the window of running calls full, so at most
+ * parallelism elements are in flight. The result which is ready before the first one waits in the
+ * window, use {@link MapConcurrentUnordered} if the order doesn't matter.
+ *
+ * <p>If the mapper throws, the rest calls are cancelled and the exception is rethrown to the
+ * consumer.
+ *
+ * <p>> <b>Note</b>: close the iterator if you stop pulling it before the end, otherwise the calls
+ * in flight keep running.
+ */
+public class MapConcurrent<T, R> implements Iterator<R>, AutoCloseable {
+  private Iterator<T> iterator;
+  private Function<T, R> mapper;
+  private int parallelism;
+  private ExecutorService executor;
+  private VecDeque<Future<R>> window;
+  private boolean closed = false;
+
+  public MapConcurrent(Iterator<T> iterator, Function<T, R> mapper, int parallelism) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("The parallelism must be positive: " + parallelism);
+    }
+
+    this.iterator = iterator;
+    this.mapper = mapper;
+    this.parallelism = parallelism;
+    this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    this.window = VecDeque.withCapacity(parallelism);
+  }
+
+  private void fill() {
+    while (window.len() < parallelism && iterator.tryAdvance(this::submit)) {}
+  }
+
+  private void submit(T element) {
+    window.pushBack(executor.submit(() -> mapper.apply(element)));
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    return iterator.sizeHint().plus(SizeHint.exact(window.len()));
+  }
+
+  @Override
+  public Optional<R> next() {
+    if (closed) {
+      return Optional.empty();
+    }
+
+    fill();
+    var future = window.popFront();
+    if (future.isEmpty()) {
+      shutdown();
+      return Optional.empty();
+    }
+
+    return Optional.of(await(future.get()));
+  }
+
+  private R await(Future<R> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      cancel();
+      throw rethrown(e.getCause());
+    } catch (InterruptedException e) {
+      cancel();
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the mapper", e);
+    }
+  }
+
+  /** Returns the cause of failed call to throw it, but throws {@link Error} right away. */
+  static RuntimeException rethrown(Throwable cause) {
+    if (cause instanceof RuntimeException e) {
+      return e;
+    }
+
+    if (cause instanceof Error e) {
+      throw e;
+    }
+
+    return new IllegalStateException("The mapper failed", cause);
+  }
+
+  private void shutdown() {
+    closed = true;
+    executor.shutdown();
+  }
+
+  /** Cancels the running calls and the source. */
+  @Override
+  public void cancel() {
+    if (closed) {
+      return;
+    }
+
+    window.drain().forEach(future -> future.cancel(true));
+    executor.shutdownNow();
+    closed = true;
+    iterator.cancel();
+  }
+
+  /** The same as {@link #cancel}, so it fits try-with-resources. */
+  @Override
+  public void close() {
+    cancel();
+  }
+}
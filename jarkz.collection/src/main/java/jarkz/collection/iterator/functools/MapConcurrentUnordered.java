@@ -0,0 +1,103 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Maps elements on virtual threads like {@link MapConcurrent}, but yields each result as soon as
+ * it's ready, so the slow call doesn't hold the results after it.
+ *
+ * <p>If the mapper throws, the rest calls are cancelled and the exception is rethrown to the
+ * consumer.
+ *
+ * <p>> <b>Note</b>: close the iterator if you stop pulling it before the end, otherwise the calls
+ * in flight keep running.
+ */
+public class MapConcurrentUnordered<T, R> implements Iterator<R>, AutoCloseable {
+  private Iterator<T> iterator;
+  private Function<T, R> mapper;
+  private int parallelism;
+  private ExecutorService executor;
+  private CompletionService<R> completed;
+  private int inFlight = 0;
+  private boolean closed = false;
+
+  public MapConcurrentUnordered(Iterator<T> iterator, Function<T, R> mapper, int parallelism) {
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("The parallelism must be positive: " + parallelism);
+    }
+
+    this.iterator = iterator;
+    this.mapper = mapper;
+    this.parallelism = parallelism;
+    this.executor = Executors.newVirtualThreadPerTaskExecutor();
+    this.completed = new ExecutorCompletionService<>(executor);
+  }
+
+  private void fill() {
+    while (inFlight < parallelism && iterator.tryAdvance(this::submit)) {}
+  }
+
+  private void submit(T element) {
+    completed.submit(() -> mapper.apply(element));
+    inFlight += 1;
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    return iterator.sizeHint().plus(SizeHint.exact(inFlight));
+  }
+
+  @Override
+  public Optional<R> next() {
+    if (closed) {
+      return Optional.empty();
+    }
+
+    fill();
+    if (inFlight == 0) {
+      closed = true;
+      executor.shutdown();
+      return Optional.empty();
+    }
+
+    try {
+      var result = completed.take().get();
+      inFlight -= 1;
+      return Optional.of(result);
+    } catch (ExecutionException e) {
+      cancel();
+      throw MapConcurrent.rethrown(e.getCause());
+    } catch (InterruptedException e) {
+      cancel();
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for the mapper", e);
+    }
+  }
+
+  /** Cancels the running calls and the source. */
+  @Override
+  public void cancel() {
+    if (closed) {
+      return;
+    }
+
+    executor.shutdownNow();
+    closed = true;
+    inFlight = 0;
+    iterator.cancel();
+  }
+
+  /** The same as {@link #cancel}, so it fits try-with-resources. */
+  @Override
+  public void close() {
+    cancel();
+  }
+}
@@ -0,0 +1,32 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.DoubleIterator;
+import jarkz.collection.iterator.Iterator;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+
+public class MapToDouble<T> implements DoubleIterator {
+  private Iterator<T> iterator;
+  private ToDoubleFunction<T> mapper;
+
+  public MapToDouble(Iterator<T> iterator, ToDoubleFunction<T> mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public OptionalDouble next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return OptionalDouble.empty();
+    }
+
+    return OptionalDouble.of(mapper.applyAsDouble(element.get()));
+  }
+
+  @Override
+  public void forEach(DoubleConsumer body) {
+    iterator.forEach(element -> body.accept(mapper.applyAsDouble(element)));
+  }
+}
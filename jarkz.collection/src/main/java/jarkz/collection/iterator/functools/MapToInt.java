@@ -0,0 +1,32 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.IntIterator;
+import jarkz.collection.iterator.Iterator;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+import java.util.function.ToIntFunction;
+
+public class MapToInt<T> implements IntIterator {
+  private Iterator<T> iterator;
+  private ToIntFunction<T> mapper;
+
+  public MapToInt(Iterator<T> iterator, ToIntFunction<T> mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public OptionalInt next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return OptionalInt.empty();
+    }
+
+    return OptionalInt.of(mapper.applyAsInt(element.get()));
+  }
+
+  @Override
+  public void forEach(IntConsumer body) {
+    iterator.forEach(element -> body.accept(mapper.applyAsInt(element)));
+  }
+}
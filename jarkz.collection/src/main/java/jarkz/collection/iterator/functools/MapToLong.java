@@ -0,0 +1,32 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.LongIterator;
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+
+public class MapToLong<T> implements LongIterator {
+  private Iterator<T> iterator;
+  private ToLongFunction<T> mapper;
+
+  public MapToLong(Iterator<T> iterator, ToLongFunction<T> mapper) {
+    this.iterator = iterator;
+    this.mapper = mapper;
+  }
+
+  @Override
+  public OptionalLong next() {
+    var element = iterator.next();
+    if (element.isEmpty()) {
+      return OptionalLong.empty();
+    }
+
+    return OptionalLong.of(mapper.applyAsLong(element.get()));
+  }
+
+  @Override
+  public void forEach(LongConsumer body) {
+    iterator.forEach(element -> body.accept(mapper.applyAsLong(element)));
+  }
+}
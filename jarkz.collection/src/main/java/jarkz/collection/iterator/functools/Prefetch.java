@@ -0,0 +1,230 @@
+package jarkz.collection.iterator.functools;
+
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
+import java.util.Optional;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Pulls elements from the source on a virtual thread ahead of the consumer and keeps them in a
+ * bounded ring buffer, so the slow source (e.g. I/O) and the consumer work at the same time.
+ *
+ * <p>The buffer has exactly one producer and one consumer, so they exchange elements only by
+ * volatile indexes without locks. Each of them parks only when the buffer is full or empty.
+ *
+ * <p>If the source throws, the exception is rethrown to the consumer after all elements produced
+ * before it.
+ *
+ * <p>> <b>Attention</b>: neither the adapters like {@code take} nor the terminal operations like
+ * {@code find} stop the producer, so the rest of elements stays readable after them. The owner
+ * closes the prefetch when it's not needed anymore (e.g. by try-with-resources), otherwise the
+ * producer stays parked on the full buffer. The buffered elements are dropped then.
+ */
+public class Prefetch<T> implements Iterator<T>, AutoCloseable {
+  // Returned by the timed poll when the deadline has passed, the buffer never holds it
+  static final Object TIMEOUT = new Object();
+
+  private final Object[] buffer;
+  private final int mask;
+  private final SizeHint sourceHint;
+  private final Thread producer;
+  private volatile Thread consumer;
+
+  // The head is written only by consumer and the tail is written only by producer
+  private volatile long head;
+  private volatile long tail;
+  private volatile boolean done;
+  private volatile boolean cancelled;
+  private volatile boolean producerWaiting;
+  private volatile boolean consumerWaiting;
+  // It's written before done, so it's visible after reading done
+  private Throwable failure;
+  private int consumed;
+
+  public Prefetch(Iterator<T> iterator, int bufferSize) {
+    if (bufferSize <= 0 || bufferSize > 1 << 30) {
+      throw new IllegalArgumentException("Invalid size of buffer: " + bufferSize);
+    }
+
+    var capacity = Integer.highestOneBit(bufferSize);
+    if (capacity < bufferSize) {
+      capacity <<= 1;
+    }
+
+    buffer = new Object[capacity];
+    mask = capacity - 1;
+    sourceHint = iterator.sizeHint();
+    producer = Thread.ofVirtual().name("prefetch").start(() -> produce(iterator));
+  }
+
+  private void produce(Iterator<T> iterator) {
+    try {
+      Consumer<T> publish = this::publish;
+      while (!cancelled && iterator.tryAdvance(publish)) {}
+
+      if (cancelled) {
+        iterator.cancel();
+      }
+    } catch (Throwable e) {
+      failure = e;
+    } finally {
+      done = true;
+      wakeConsumer();
+    }
+  }
+
+  private void publish(T element) {
+    var position = tail;
+    while (position - head == buffer.length) {
+      if (cancelled) {
+        return;
+      }
+
+      // The flag is set before the check, so the consumer either sees it or frees a slot before
+      producerWaiting = true;
+      if (position - head == buffer.length && !cancelled) {
+        LockSupport.park(this);
+      }
+      producerWaiting = false;
+    }
+
+    buffer[(int) position & mask] = element;
+    tail = position + 1;
+    wakeConsumer();
+  }
+
+  private void wakeConsumer() {
+    if (consumerWaiting) {
+      LockSupport.unpark(consumer);
+    }
+  }
+
+  /** Takes the next element or returns null if there are no more elements. */
+  @SuppressWarnings("unchecked")
+  private T take() {
+    // SAFETY: the untimed take never returns TIMEOUT, so it's either element or null
+    return (T) take(false, 0);
+  }
+
+  /**
+   * Takes the next element like {@link Prefetch#next}, but waits for it only until the deadline in
+   * terms of {@link System#nanoTime}. Returns null if there are no more elements and {@link
+   * Prefetch#TIMEOUT} if the deadline has passed before the next element came. The failure of
+   * source is not rethrown by it, but by the next {@link Prefetch#next}.
+   */
+  Object poll(long deadline) {
+    return take(true, deadline);
+  }
+
+  private Object take(boolean timed, long deadline) {
+    if (cancelled) {
+      return null;
+    }
+
+    var position = head;
+    while (position == tail) {
+      if (done) {
+        if (position != tail) {
+          break;
+        }
+
+        // The timed poll leaves the failure to the next take, so the caller keeps its elements
+        if (!timed) {
+          rethrowFailure();
+        }
+
+        return null;
+      }
+
+      var remaining = timed ? deadline - System.nanoTime() : 0;
+      if (timed && remaining <= 0) {
+        return TIMEOUT;
+      }
+
+      consumer = Thread.currentThread();
+      consumerWaiting = true;
+      if (position == tail && !done) {
+        if (timed) {
+          LockSupport.parkNanos(this, remaining);
+        } else {
+          LockSupport.park(this);
+        }
+      }
+      consumerWaiting = false;
+    }
+
+    var index = (int) position & mask;
+    var element = buffer[index];
+    buffer[index] = null;
+    head = position + 1;
+    consumed += 1;
+    if (producerWaiting) {
+      LockSupport.unpark(producer);
+    }
+
+    return element;
+  }
+
+  private void rethrowFailure() {
+    if (failure == null) {
+      return;
+    }
+
+    if (failure instanceof RuntimeException e) {
+      throw e;
+    }
+
+    if (failure instanceof Error e) {
+      throw e;
+    }
+
+    throw new IllegalStateException("The source of prefetch failed", failure);
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    if (cancelled) {
+      return SizeHint.exact(0);
+    }
+
+    return sourceHint.minus(consumed);
+  }
+
+  @Override
+  public Optional<T> next() {
+    return Optional.ofNullable(take());
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> action) {
+    var element = take();
+    if (element == null) {
+      return false;
+    }
+
+    action.accept(element);
+    return true;
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    T element;
+    while ((element = take()) != null) {
+      body.accept(element);
+    }
+  }
+
+  /** Stops the producer, which cancels the source on its own thread. */
+  @Override
+  public void cancel() {
+    cancelled = true;
+    LockSupport.unpark(producer);
+  }
+
+  /** The same as {@link #cancel}, so it fits try-with-resources. */
+  @Override
+  public void close() {
+    cancel();
+  }
+}
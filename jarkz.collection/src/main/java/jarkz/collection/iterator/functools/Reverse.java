@@ -1,7 +1,9 @@
 package jarkz.collection.iterator.functools;
 
 import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.SizeHint;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public class Reverse<T> implements DoubleEndedIterator<T> {
   private DoubleEndedIterator<T> iterator;
@@ -10,6 +12,11 @@ public class Reverse<T> implements DoubleEndedIterator<T> {
     this.iterator = iterator;
   }
 
+  @Override
+  public SizeHint sizeHint() {
+    return iterator.sizeHint();
+  }
+
   @Override
   public Optional<T> next() {
     return iterator.nextBack();
@@ -19,4 +26,24 @@ public class Reverse<T> implements DoubleEndedIterator<T> {
   public Optional<T> nextBack() {
     return iterator.next();
   }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> action) {
+    return iterator.tryAdvanceBack(action);
+  }
+
+  @Override
+  public boolean tryAdvanceBack(Consumer<T> action) {
+    return iterator.tryAdvance(action);
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    while (iterator.tryAdvanceBack(body)) {}
+  }
+
+  @Override
+  public void cancel() {
+    iterator.cancel();
+  }
 }
@@ -1,7 +1,9 @@
 package jarkz.collection.iterator.functools;
 
 import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public class Skip<T> implements Iterator<T> {
   private Iterator<T> iterator;
@@ -14,13 +16,22 @@ public class Skip<T> implements Iterator<T> {
   }
 
   private void skip() {
-    while (count > 0 && iterator.next().isPresent()) {
+    while (count > 0 && iterator.tryAdvance(element -> {})) {
       count -= 1;
     }
 
     skipped = true;
   }
 
+  @Override
+  public SizeHint sizeHint() {
+    if (!skipped) {
+      return iterator.sizeHint().minus(count);
+    }
+
+    return iterator.sizeHint();
+  }
+
   @Override
   public Optional<T> next() {
     if (!skipped) {
@@ -29,4 +40,27 @@ public class Skip<T> implements Iterator<T> {
 
     return iterator.next();
   }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> action) {
+    if (!skipped) {
+      skip();
+    }
+
+    return iterator.tryAdvance(action);
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    if (!skipped) {
+      skip();
+    }
+
+    iterator.forEach(body);
+  }
+
+  @Override
+  public void cancel() {
+    iterator.cancel();
+  }
 }
@@ -1,7 +1,9 @@
 package jarkz.collection.iterator.functools;
 
 import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 public class SkipWhile<T> implements Iterator<T> {
@@ -22,6 +24,15 @@ public class SkipWhile<T> implements Iterator<T> {
     return element;
   }
 
+  @Override
+  public SizeHint sizeHint() {
+    if (!skipped) {
+      return iterator.sizeHint().withoutLower();
+    }
+
+    return iterator.sizeHint();
+  }
+
   @Override
   public Optional<T> next() {
     if (!skipped) {
@@ -30,4 +41,44 @@ public class SkipWhile<T> implements Iterator<T> {
 
     return iterator.next();
   }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> action) {
+    if (skipped) {
+      return iterator.tryAdvance(action);
+    }
+
+    Consumer<T> probe =
+        element -> {
+          if (checker.negate().test(element)) {
+            skipped = true;
+            action.accept(element);
+          }
+        };
+
+    while (!skipped && iterator.tryAdvance(probe)) {}
+
+    return skipped;
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    iterator.forEach(
+        element -> {
+          if (!skipped) {
+            if (checker.test(element)) {
+              return;
+            }
+
+            skipped = true;
+          }
+
+          body.accept(element);
+        });
+  }
+
+  @Override
+  public void cancel() {
+    iterator.cancel();
+  }
 }
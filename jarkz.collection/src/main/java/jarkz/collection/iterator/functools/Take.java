@@ -1,7 +1,9 @@
 package jarkz.collection.iterator.functools;
 
 import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public class Take<T> implements Iterator<T> {
   private Iterator<T> iterator;
@@ -12,6 +14,11 @@ public class Take<T> implements Iterator<T> {
     this.count = count;
   }
 
+  @Override
+  public SizeHint sizeHint() {
+    return iterator.sizeHint().atMost(count);
+  }
+
   @Override
   public Optional<T> next() {
     if (count <= 0) {
@@ -21,4 +28,26 @@ public class Take<T> implements Iterator<T> {
     count -= 1;
     return iterator.next();
   }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> action) {
+    if (count <= 0) {
+      return false;
+    }
+
+    count -= 1;
+    return iterator.tryAdvance(action);
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    while (count > 0 && iterator.tryAdvance(body)) {
+      count -= 1;
+    }
+  }
+
+  @Override
+  public void cancel() {
+    iterator.cancel();
+  }
 }
@@ -1,7 +1,9 @@
 package jarkz.collection.iterator.functools;
 
 import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 public class TakeWhile<T> implements Iterator<T> {
@@ -14,6 +16,15 @@ public class TakeWhile<T> implements Iterator<T> {
     this.checker = checker;
   }
 
+  @Override
+  public SizeHint sizeHint() {
+    if (failed) {
+      return SizeHint.exact(0);
+    }
+
+    return iterator.sizeHint().withoutLower();
+  }
+
   @Override
   public Optional<T> next() {
     if (failed) {
@@ -29,4 +40,34 @@ public class TakeWhile<T> implements Iterator<T> {
 
     return element;
   }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> action) {
+    if (failed) {
+      return false;
+    }
+
+    return iterator.tryAdvance(probe(action)) && !failed;
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    var probe = probe(body);
+    while (!failed && iterator.tryAdvance(probe)) {}
+  }
+
+  private Consumer<T> probe(Consumer<T> action) {
+    return element -> {
+      if (checker.test(element)) {
+        action.accept(element);
+      } else {
+        failed = true;
+      }
+    };
+  }
+
+  @Override
+  public void cancel() {
+    iterator.cancel();
+  }
 }
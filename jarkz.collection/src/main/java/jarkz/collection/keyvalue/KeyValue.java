@@ -0,0 +1,9 @@
+package jarkz.collection.keyvalue;
+
+/** The pair of key and its value which maps yield when iterate over their entries. */
+public record KeyValue<K, V>(K key, V value) {
+  @Override
+  public String toString() {
+    return key + ": " + value;
+  }
+}
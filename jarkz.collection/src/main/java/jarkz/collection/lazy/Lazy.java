@@ -0,0 +1,92 @@
+package jarkz.collection.lazy;
+
+import jarkz.collection.maybe.Maybe;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+/**
+ * The value which is computed by {@link Supplier} on the first access and then is cached. It's
+ * safe to share between threads: the supplier is called exactly once, and after initialization the
+ * access is a single acquire read without any lock.
+ *
+ * <p>> <b>Note</b>: the supplier is dropped after initialization, so all captured objects can be
+ * garbage collected.
+ */
+public final class Lazy<T> {
+  private static final VarHandle VALUE;
+
+  static {
+    try {
+      VALUE = MethodHandles.lookup().findVarHandle(Lazy.class, "value", Object.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private Supplier<T> supplier;
+  private T value;
+
+  private Lazy(Supplier<T> supplier) {
+    this.supplier = supplier;
+  }
+
+  /** Creates the Lazy&lt;T&gt; which computes the value by given supplier. */
+  public static <T> Lazy<T> of(@NonNull Supplier<T> supplier) {
+    return new Lazy<>(supplier);
+  }
+
+  /**
+   * Returns the value and computes it if it's the first access. If many threads access it at once,
+   * one of them computes the value and others wait for it.
+   */
+  @SuppressWarnings("unchecked")
+  public T get() {
+    // SAFETY: the field holds only values of type T
+    var current = (T) VALUE.getAcquire(this);
+    if (current != null) {
+      return current;
+    }
+
+    return initialize();
+  }
+
+  private synchronized T initialize() {
+    if (value != null) {
+      return value;
+    }
+
+    var computed = supplier.get();
+    if (computed == null) {
+      throw new NullPointerException("The supplied value is null");
+    }
+
+    VALUE.setRelease(this, computed);
+    supplier = null;
+    return computed;
+  }
+
+  /** True, if the value is already computed. */
+  public boolean isInitialized() {
+    return VALUE.getAcquire(this) != null;
+  }
+
+  /** Returns the value if it's already computed, but never computes it. */
+  @SuppressWarnings("unchecked")
+  public Maybe<T> toMaybe() {
+    // SAFETY: the field holds only values of type T
+    return Maybe.from((T) VALUE.getAcquire(this));
+  }
+
+  /** Returns the Lazy&lt;R&gt; which maps the value on its first access. */
+  public <R> Lazy<R> map(@NonNull Function<T, R> mapper) {
+    return new Lazy<>(() -> mapper.apply(get()));
+  }
+
+  @Override
+  public String toString() {
+    return toMaybe().mapOr("Lazy(<uninitialized>)", value -> "Lazy(" + value + ")");
+  }
+}
@@ -0,0 +1,94 @@
+package jarkz.collection.lazy;
+
+import jarkz.collection.maybe.Maybe;
+import jarkz.collection.result.Result;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.NonNull;
+
+/**
+ * The fallible counterpart of {@link Lazy}. It caches only the Ok result, and the Err result is
+ * returned as is, so the next access tries to compute the value again. Use it for initialization
+ * which may fail temporarily, e.g. reading a file or connecting to a service.
+ */
+public final class LazyResult<T, E> {
+  private static final VarHandle OK;
+
+  static {
+    try {
+      OK = MethodHandles.lookup().findVarHandle(LazyResult.class, "ok", Result.class);
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private Supplier<Result<T, E>> supplier;
+  private Result<T, E> ok;
+
+  private LazyResult(Supplier<Result<T, E>> supplier) {
+    this.supplier = supplier;
+  }
+
+  /** Creates the LazyResult&lt;T, E&gt; which computes the result by given supplier. */
+  public static <T, E> LazyResult<T, E> of(@NonNull Supplier<Result<T, E>> supplier) {
+    return new LazyResult<>(supplier);
+  }
+
+  /**
+   * Returns the cached Ok result or computes the result if there is no one. Only one thread
+   * computes it at once, and others wait for its result.
+   */
+  @SuppressWarnings("unchecked")
+  public Result<T, E> get() {
+    // SAFETY: the field holds only results of type Result<T, E>
+    var current = (Result<T, E>) OK.getAcquire(this);
+    if (current != null) {
+      return current;
+    }
+
+    return initialize();
+  }
+
+  private synchronized Result<T, E> initialize() {
+    if (ok != null) {
+      return ok;
+    }
+
+    var computed = supplier.get();
+    if (computed == null) {
+      throw new NullPointerException("The supplied result is null");
+    }
+
+    if (computed.isOk()) {
+      OK.setRelease(this, computed);
+      supplier = null;
+    }
+
+    return computed;
+  }
+
+  /** True, if the Ok result is already computed. */
+  public boolean isInitialized() {
+    return OK.getAcquire(this) != null;
+  }
+
+  /** Returns the Ok value if it's already computed, but never computes it. */
+  @SuppressWarnings("unchecked")
+  public Maybe<T> toMaybe() {
+    // SAFETY: the field holds only results of type Result<T, E>
+    var current = (Result<T, E>) OK.getAcquire(this);
+    return current == null ? Maybe.None() : current.ok();
+  }
+
+  /** Returns the LazyResult&lt;R, E&gt; which maps the Ok value on its first access. */
+  public <R> LazyResult<R, E> map(@NonNull Function<T, R> mapper) {
+    return new LazyResult<>(() -> get().map(mapper));
+  }
+
+  @Override
+  public String toString() {
+    return toMaybe().mapOr("LazyResult(<uninitialized>)", value -> "LazyResult(Ok(" + value + "))");
+  }
+}
@@ -17,10 +17,16 @@ import lombok.val;
  * more helpful methods. Also the code readability with {@link Maybe} will be higher than {@link
  * Optional} because all naming for methods picked from Rust Programming Language and they are very
  * understandable.
+ *
+ * <p>> <b>Note</b>: {@link Maybe#none} always returns the same shared instance, so it never
+ * allocates, and the methods of this instance which return an empty value return it again. The
+ * shared instance can't hold a value, therefore use {@link Maybe#None} to get an empty
+ * Maybe&lt;T&gt; for methods which insert the value, like {@link Maybe#insert}.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-public class Maybe<T> {
+public final class Maybe<T> {
+  private static final Maybe<?> NONE = new Maybe<>();
 
   private T value;
 
@@ -29,11 +35,21 @@ public class Maybe<T> {
     return new Maybe<>(val);
   }
 
-  /** Creates the Maybe&lt;T&gt; class with empty value. */
+  /** Creates the Maybe&lt;T&gt; class with empty value which can be filled later. */
   public static <T> Maybe<T> None() {
     return new Maybe<>();
   }
 
+  /**
+   * Returns the shared immutable Maybe&lt;T&gt; class with empty value. Use it on hot paths which
+   * must not allocate, but not for methods which insert the value.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> Maybe<T> none() {
+    // SAFETY: the shared instance never holds a value, so it fits any type
+    return (Maybe<T>) NONE;
+  }
+
   /**
    * Creates the Maybe&lt;T&gt; class with existing value when given value is non null, otherwise
    * creates Maybe&lt;T&gt; with empty value;
@@ -68,13 +84,13 @@ public class Maybe<T> {
       return this;
     }
 
-    return None();
+    return empty();
   }
 
   /** Maps the existing value by given function. */
   public <R> Maybe<R> map(@NonNull Function<T, R> mapper) {
     if (isNone()) {
-      return None();
+      return empty();
     }
 
     return Some(mapper.apply(value));
@@ -109,7 +125,7 @@ public class Maybe<T> {
   /** Takes the value and leaves a slot with empty value if value exists. */
   public Maybe<T> take() {
     if (isNone()) {
-      return None();
+      return empty();
     }
 
     val result = Some(value);
@@ -122,7 +138,11 @@ public class Maybe<T> {
    * Predicate}.
    */
   public Maybe<T> takeIf(@NonNull Predicate<T> predicate) {
-    if (isNone() || predicate.negate().test(value)) {
+    if (isNone()) {
+      return empty();
+    }
+
+    if (predicate.negate().test(value)) {
       return None();
     }
 
@@ -131,6 +151,7 @@ public class Maybe<T> {
 
   /** Replaces the current value by other and returns old value. */
   public Maybe<T> replace(@NonNull T other) {
+    checkNotShared();
     val prev = take();
     value = other;
 
@@ -147,7 +168,7 @@ public class Maybe<T> {
   /** Execute code if the value exists and return the result of this code. */
   public <R> Maybe<R> ifSome(@NonNull Function<T, R> function) {
     if (isNone()) {
-      return None();
+      return empty();
     }
 
     return Some(function.apply(value));
@@ -171,6 +192,7 @@ public class Maybe<T> {
 
   /** Inserts a given value into a slot and retuns it as reference. */
   public T insert(@NonNull T insertingValue) {
+    checkNotShared();
     value = insertingValue;
     return value;
   }
@@ -178,6 +200,7 @@ public class Maybe<T> {
   /** Returns the value if exists, otherwise insert other value and return it. */
   public T getOrInsert(@NonNull T other) {
     if (isNone()) {
+      checkNotShared();
       value = other;
     }
 
@@ -191,6 +214,7 @@ public class Maybe<T> {
    */
   public T getOrInsertWith(@NonNull Supplier<T> supplier) {
     if (isNone()) {
+      checkNotShared();
       value = throwIfNull(supplier.get());
     }
 
@@ -223,7 +247,7 @@ public class Maybe<T> {
    */
   public <R> Maybe<R> and(@NonNull Maybe<R> other) {
     if (isNone()) {
-      return None();
+      return empty();
     }
 
     return other;
@@ -237,7 +261,7 @@ public class Maybe<T> {
    */
   public <R> Maybe<R> andThen(@NonNull Function<T, Maybe<R>> other) {
     if (isNone()) {
-      return None();
+      return empty();
     }
 
     return throwIfNull(other.apply(value));
@@ -309,6 +333,29 @@ public class Maybe<T> {
     return value == null;
   }
 
+  /**
+   * Returns the empty value for this empty Maybe&lt;T&gt;: the shared instance keeps being shared,
+   * so the chains starting from {@link Maybe#none} don't allocate, others get a new instance.
+   */
+  private <R> Maybe<R> empty() {
+    if (this == NONE) {
+      return none();
+    }
+
+    return None();
+  }
+
+  /**
+   * Throws {@link UnsupportedOperationException} if it is the shared instance of {@link
+   * Maybe#none}, because inserting the value into it would change all empty values.
+   */
+  private void checkNotShared() {
+    if (this == NONE) {
+      throw new UnsupportedOperationException(
+          "The shared Maybe.none() can't hold a value, use Maybe.None() instead");
+    }
+  }
+
   /**
    * Check the passed value by null-pointer and throws {@link NullPointerException} if it is null.
    */
@@ -7,7 +7,6 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import lombok.NonNull;
-import lombok.val;
 
 /**
  * The class contains either Ok or Err value which represent by T and E generic types. At one time
@@ -17,25 +16,36 @@ import lombok.val;
  * <p>> <b>Attention</b>: If you want to have Result which contains empty value when it is Ok or
  * Err, use {@link Unit}, because program will fail into {@link NullPointerException} if you'll pass
  * null-value.
+ *
+ * <p>> <b>Note</b>: the class is immutable, so methods which don't change the value return the
+ * same instance instead of copying it, and the Ok with {@link Unit} is cached.
  */
-public class Result<T, E> {
-  private T okValue;
-  private E errValue;
+public final class Result<T, E> {
+  private static final Result<Unit, ?> OK_UNIT = new Result<>(Unit.INSTANCE, null);
+
+  private final T okValue;
+  private final E errValue;
 
-  private Result() {}
+  private Result(T okValue, E errValue) {
+    this.okValue = okValue;
+    this.errValue = errValue;
+  }
 
   /** Creates a Result&lt;T, E&gt; with given value as Ok value. */
   public static <T, E> Result<T, E> Ok(@NonNull T value) {
-    val result = new Result<T, E>();
-    result.okValue = value;
-    return result;
+    return new Result<>(value, null);
+  }
+
+  /** Returns the shared Result&lt;Unit, E&gt; with {@link Unit} as Ok value. */
+  @SuppressWarnings("unchecked")
+  public static <E> Result<Unit, E> Ok() {
+    // SAFETY: the shared instance never holds Err value, so it fits any type of error
+    return (Result<Unit, E>) OK_UNIT;
   }
 
   /** Creates a Result&lt;T, E&gt; with given value as Err value. */
   public static <T, E> Result<T, E> Err(@NonNull E error) {
-    val result = new Result<T, E>();
-    result.errValue = error;
-    return result;
+    return new Result<>(null, error);
   }
 
   /**
@@ -65,10 +75,16 @@ public class Result<T, E> {
   /** Maps the Ok value to another by mapper function if present. Otherwise returns Err value. */
   public <R> Result<R, E> map(@NonNull Function<T, R> mapper) {
     if (isErr()) {
-      return Err(errValue);
+      return castOk();
+    }
+
+    var mapped = mapper.apply(okValue);
+    if (mapped == okValue) {
+      // SAFETY: the mapper returned the same object, so it has both types T and R
+      return castOk();
     }
 
-    return Ok(mapper.apply(okValue));
+    return Ok(mapped);
   }
 
   /**
@@ -100,16 +116,22 @@ public class Result<T, E> {
   /** Maps the Err value by mapper function if exists. Otherwise returns Ok value. */
   public <R> Result<T, R> mapErr(@NonNull Function<E, R> mapper) {
     if (isErr()) {
-      return Err(mapper.apply(errValue));
+      var mapped = mapper.apply(errValue);
+      if (mapped == errValue) {
+        // SAFETY: the mapper returned the same object, so it has both types E and R
+        return castErr();
+      }
+
+      return Err(mapped);
     }
 
-    return Ok(okValue);
+    return castErr();
   }
 
   /** Uses other Result type if current doesn't have Ok value. */
   public <F> Result<T, F> or(@NonNull Result<T, F> other) {
     if (isOk()) {
-      return Ok(okValue);
+      return castErr();
     }
 
     return other;
@@ -122,7 +144,7 @@ public class Result<T, E> {
    */
   public <F> Result<T, F> orElse(@NonNull Supplier<Result<T, F>> other) {
     if (isOk()) {
-      return Ok(okValue);
+      return castErr();
     }
 
     return throwIfNull(other.get());
@@ -131,7 +153,7 @@ public class Result<T, E> {
   /** Returns current Err value if exists, otherwise returns other value. */
   public <R> Result<R, E> and(@NonNull Result<R, E> other) {
     if (isErr()) {
-      return Err(errValue);
+      return castOk();
     }
 
     return other;
@@ -143,7 +165,7 @@ public class Result<T, E> {
    */
   public <R> Result<R, E> andThen(@NonNull Function<T, Result<R, E>> function) {
     if (isErr()) {
-      return Err(errValue);
+      return castOk();
     }
 
     return throwIfNull(function.apply(okValue));
@@ -281,6 +303,26 @@ public class Result<T, E> {
     return isErr() && predicate.test(errValue);
   }
 
+  /**
+   * Returns this instance with other type of Ok value. It's used when the Ok value is absent or
+   * isn't changed, so the copy is not needed.
+   */
+  @SuppressWarnings("unchecked")
+  private <R> Result<R, E> castOk() {
+    // SAFETY: the callers guarantee that the Ok value is absent or has type R
+    return (Result<R, E>) this;
+  }
+
+  /**
+   * Returns this instance with other type of Err value. It's used when the Err value is absent or
+   * isn't changed, so the copy is not needed.
+   */
+  @SuppressWarnings("unchecked")
+  private <R> Result<T, R> castErr() {
+    // SAFETY: the callers guarantee that the Err value is absent or has type R
+    return (Result<T, R>) this;
+  }
+
   /**
    * Check the passed value by null-pointer and throws {@link NullPointerException} if it is null.
    */
@@ -3,5 +3,20 @@ package jarkz.collection.unit;
 /**
  * The type which holds nothing and it's like a {@link Object} class, but it have a readable class
  * name. Use it when you mean that here are nothing insead of Object or null value.
+ *
+ * <p>> <b>Note</b>: use the shared value {@link Unit#INSTANCE}, so the code never allocates it.
  */
-public class Unit {}
+public final class Unit {
+  public static final Unit INSTANCE = new Unit();
+
+  /**
+   * @deprecated use {@link Unit#INSTANCE} instead, all values of the type are the same.
+   */
+  @Deprecated
+  public Unit() {}
+
+  @Override
+  public String toString() {
+    return "()";
+  }
+}
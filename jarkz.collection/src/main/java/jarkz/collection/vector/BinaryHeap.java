@@ -0,0 +1,200 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.IntoIterator;
+import jarkz.collection.maybe.Maybe;
+import java.util.Comparator;
+import lombok.NonNull;
+
+/**
+ * The priority queue on binary heap which is stored in {@link Vector}. The greatest element by
+ * comparator is on the top, so use the reversed comparator to get the smallest one first.
+ */
+public class BinaryHeap<T> implements IntoIterator<T, DoubleEndedIterator<T>> {
+  private final Vector<T> data;
+  private final Comparator<? super T> comparator;
+
+  private BinaryHeap(Vector<T> data, Comparator<? super T> comparator) {
+    this.data = data;
+    this.comparator = comparator;
+  }
+
+  /** Creates the heap which orders elements by their natural order. */
+  public BinaryHeap() {
+    this(new Vector<>(), Vector.naturalOrder());
+  }
+
+  public BinaryHeap(@NonNull Comparator<? super T> comparator) {
+    this(new Vector<>(), comparator);
+  }
+
+  /** Creates the empty heap which can hold given count of elements without reallocation. */
+  public static <T> BinaryHeap<T> withCapacity(
+      int capacity, @NonNull Comparator<? super T> comparator) {
+    return new BinaryHeap<>(Vector.withCapacity(capacity), comparator);
+  }
+
+  /** Creates the heap by natural order of elements, see {@link #from(Vector, Comparator)}. */
+  public static <T> BinaryHeap<T> from(@NonNull Vector<T> vector) {
+    return from(vector, Vector.naturalOrder());
+  }
+
+  /**
+   * Creates the heap which takes the given vector and orders its backing array in place. It sifts
+   * down all parent nodes from the bottom, so it takes O(n) time instead of O(n log n) for pushing
+   * elements one by one.
+   *
+   * <p>> <b>Attention</b>: the heap owns the vector afterwards, so don't use it anymore.
+   */
+  public static <T> BinaryHeap<T> from(
+      @NonNull Vector<T> vector, @NonNull Comparator<? super T> comparator) {
+    var heap = new BinaryHeap<>(vector, comparator);
+    var array = vector.array();
+    for (int i = vector.len() / 2 - 1; i >= 0; i--) {
+      heap.siftDown(array, i, vector.len());
+    }
+
+    return heap;
+  }
+
+  public int len() {
+    return data.len();
+  }
+
+  public boolean isEmpty() {
+    return data.isEmpty();
+  }
+
+  public void push(@NonNull T element) {
+    data.push(element);
+    siftUp(data.array(), data.len() - 1);
+  }
+
+  /** Returns the greatest element without removing it. */
+  public Maybe<T> peek() {
+    if (data.isEmpty()) {
+      return Maybe.None();
+    }
+
+    return Maybe.Some(data.array()[0]);
+  }
+
+  /** Removes the greatest element and returns it. */
+  public Maybe<T> pop() {
+    if (data.isEmpty()) {
+      return Maybe.None();
+    }
+
+    var last = data.pop().get();
+    if (data.isEmpty()) {
+      return Maybe.Some(last);
+    }
+
+    var array = data.array();
+    var top = array[0];
+    array[0] = last;
+    siftDown(array, 0, data.len());
+    return Maybe.Some(top);
+  }
+
+  /**
+   * Pushes the element and then pops the greatest one, but does it by one sift instead of two. It
+   * returns the given element back if it's not less than the top.
+   */
+  public T pushPop(@NonNull T element) {
+    var array = data.array();
+    if (data.isEmpty() || comparator.compare(element, array[0]) >= 0) {
+      return element;
+    }
+
+    var top = array[0];
+    array[0] = element;
+    siftDown(array, 0, data.len());
+    return top;
+  }
+
+  public void clear() {
+    data.clear();
+  }
+
+  /**
+   * Sorts elements in ascending order by heap sort in place and returns the backing vector. The
+   * heap is consumed, so don't use it anymore.
+   */
+  public Vector<T> intoSorted() {
+    var array = data.array();
+    for (int end = data.len() - 1; end > 0; end--) {
+      var top = array[0];
+      array[0] = array[end];
+      array[end] = top;
+      siftDown(array, 0, end);
+    }
+
+    return data;
+  }
+
+  /** Returns the backing vector with elements in heap order. The heap is consumed. */
+  public Vector<T> intoVector() {
+    return data;
+  }
+
+  /** Returns the iterator over elements in heap order, i.e. without any particular order. */
+  @Override
+  public DoubleEndedIterator<T> intoIterator() {
+    return data.intoIterator();
+  }
+
+  private void siftUp(T[] array, int index) {
+    var element = array[index];
+    while (index > 0) {
+      var parent = (index - 1) / 2;
+      if (comparator.compare(element, array[parent]) <= 0) {
+        break;
+      }
+
+      array[index] = array[parent];
+      index = parent;
+    }
+
+    array[index] = element;
+  }
+
+  /** Moves the hole down instead of swapping, so each level costs one write. */
+  private void siftDown(T[] array, int index, int len) {
+    var element = array[index];
+    var half = len / 2;
+    while (index < half) {
+      var child = 2 * index + 1;
+      var right = child + 1;
+      if (right < len && comparator.compare(array[right], array[child]) > 0) {
+        child = right;
+      }
+
+      if (comparator.compare(element, array[child]) >= 0) {
+        break;
+      }
+
+      array[index] = array[child];
+      index = child;
+    }
+
+    array[index] = element;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("BinaryHeap[");
+    var array = data.array();
+    for (int i = 0; i < data.len(); i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+
+      builder.append(array[i]);
+    }
+
+    builder.append("]");
+    return builder.toString();
+  }
+}
@@ -0,0 +1,56 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.SizeHint;
+import java.util.Optional;
+
+public class Chunks<T> implements DoubleEndedIterator<VectorSlice<T>> {
+  private T[] data;
+  private int frontPointer;
+  private int backPointer;
+  private int size;
+
+  Chunks(T[] data, int frontPointer, int backPointer, int size) {
+    VectorSlice.checkSize(size);
+    this.data = data;
+    this.frontPointer = frontPointer;
+    this.backPointer = backPointer;
+    this.size = size;
+  }
+
+  private boolean isEnd() {
+    return frontPointer >= backPointer;
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    var remaining = Math.max(backPointer - frontPointer, 0);
+    return SizeHint.exact(remaining / size + (remaining % size == 0 ? 0 : 1));
+  }
+
+  @Override
+  public Optional<VectorSlice<T>> next() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    var end = frontPointer + Math.min(size, backPointer - frontPointer);
+    var chunk = new VectorSlice<>(data, frontPointer, end);
+    frontPointer = end;
+    return Optional.of(chunk);
+  }
+
+  @Override
+  public Optional<VectorSlice<T>> nextBack() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    // the shorter chunk is always the last one, so take it first from the back
+    var remainder = (backPointer - frontPointer) % size;
+    var start = backPointer - (remainder == 0 ? size : remainder);
+    var chunk = new VectorSlice<>(data, start, backPointer);
+    backPointer = start;
+    return Optional.of(chunk);
+  }
+}
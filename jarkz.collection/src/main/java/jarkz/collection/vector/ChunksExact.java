@@ -0,0 +1,59 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.SizeHint;
+import java.util.Optional;
+
+public class ChunksExact<T> implements DoubleEndedIterator<VectorSlice<T>> {
+  private T[] data;
+  private int frontPointer;
+  private int backPointer;
+  private int size;
+  private VectorSlice<T> remainder;
+
+  ChunksExact(T[] data, int frontPointer, int backPointer, int size) {
+    VectorSlice.checkSize(size);
+    var end = backPointer - (backPointer - frontPointer) % size;
+
+    this.data = data;
+    this.frontPointer = frontPointer;
+    this.backPointer = end;
+    this.size = size;
+    remainder = new VectorSlice<>(data, end, backPointer);
+  }
+
+  /** The elements at the end which don't fill a whole chunk. */
+  public VectorSlice<T> remainder() {
+    return remainder;
+  }
+
+  private boolean isEnd() {
+    return frontPointer >= backPointer;
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    return SizeHint.exact(Math.max(backPointer - frontPointer, 0) / size);
+  }
+
+  @Override
+  public Optional<VectorSlice<T>> next() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    var chunk = new VectorSlice<>(data, frontPointer, frontPointer + size);
+    frontPointer += size;
+    return Optional.of(chunk);
+  }
+
+  @Override
+  public Optional<VectorSlice<T>> nextBack() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    backPointer -= size;
+    return Optional.of(new VectorSlice<>(data, backPointer, backPointer + size));
+  }
+}
@@ -0,0 +1,173 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.IntoIterator;
+import jarkz.collection.iterator.Iterator;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The append-only vector which many threads can push into lock-free, i.e. the stalled or failed
+ * writer never blocks the others.
+ *
+ * <p>Elements are stored in buckets where each next bucket is twice bigger than previous one, so
+ * the stored elements never move and the reading does not need any synchronization with writers.
+ * The writer which finds its bucket missing allocates it and installs by CAS, the losers of race
+ * just take the installed one. The writer which reaches the middle of bucket allocates the next
+ * one ahead, so the big bucket is rarely allocated twice.
+ *
+ * <p>The {@link #push(Object)} reserves the index by CAS and then publishes the element in its
+ * slot. So the slot may be reserved but not published yet, and such slot is not visible for
+ * {@link #at(int)} and iterators.
+ *
+ * <p>> <b>Note</b>: the vector can't hold null values, because null marks the unpublished slot.
+ */
+public class ConcurrentVector<T> implements IntoIterator<T, Iterator<T>> {
+  private static final int FIRST_BUCKET_BITS = 5;
+  private static final int FIRST_BUCKET_SIZE = 1 << FIRST_BUCKET_BITS;
+  // The last index plus FIRST_BUCKET_SIZE must fit into int
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - FIRST_BUCKET_SIZE;
+  private static final int BUCKETS = Integer.SIZE - 1 - FIRST_BUCKET_BITS;
+  private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+  private final AtomicReferenceArray<Object[]> buckets;
+  private final AtomicInteger reserved;
+
+  public ConcurrentVector() {
+    buckets = new AtomicReferenceArray<>(BUCKETS);
+    reserved = new AtomicInteger();
+  }
+
+  /**
+   * The count of reserved slots. Some of them may be not published yet, so the count of visible
+   * elements can be less.
+   */
+  public int len() {
+    return reserved.get();
+  }
+
+  public boolean isEmpty() {
+    return len() == 0;
+  }
+
+  /** Appends the element and returns its index. It is safe to call from many threads. */
+  public int push(T element) {
+    if (element == null) {
+      throw new IllegalArgumentException("The element must be non null!");
+    }
+
+    var index = reserve();
+    var bucket = bucket(index);
+    var slots = buckets.get(bucket);
+    if (slots == null) {
+      slots = allocate(bucket);
+    }
+
+    var offset = offset(index, bucket);
+    SLOT.setRelease(slots, offset, element);
+    // The element is already published, so the failed allocation doesn't lose its slot
+    if (offset == slots.length / 2 && bucket + 1 < BUCKETS && buckets.get(bucket + 1) == null) {
+      allocate(bucket + 1);
+    }
+
+    return index;
+  }
+
+  /**
+   * Returns the element by index if it's already published. It never blocks and never retries, so
+   * it is wait-free.
+   */
+  @SuppressWarnings("unchecked")
+  public Optional<T> at(int index) {
+    if (index < 0 || reserved.get() <= index) {
+      return Optional.empty();
+    }
+
+    var bucket = bucket(index);
+    var slots = buckets.get(bucket);
+    if (slots == null) {
+      return Optional.empty();
+    }
+
+    // SAFETY: only push stores the values into slots and all of them are T
+    return Optional.ofNullable((T) SLOT.getAcquire(slots, offset(index, bucket)));
+  }
+
+  /**
+   * Returns the iterator over the snapshot of vector. The snapshot is the prefix of elements which
+   * were reserved before the call and ends before the first unpublished slot, so it never has
+   * gaps. Elements pushed after the call are not visible.
+   */
+  @Override
+  public Iterator<T> intoIterator() {
+    return new IterConcurrentVector<>(this, reserved.get());
+  }
+
+  /** Collects the snapshot of vector into a new {@link Vector}. */
+  public Vector<T> toVector() {
+    return Vector.collect(intoIterator());
+  }
+
+  private int reserve() {
+    int index;
+    do {
+      index = reserved.get();
+      if (index == MAX_CAPACITY) {
+        throw new IllegalStateException("The vector is out of capacity!");
+      }
+    } while (!reserved.compareAndSet(index, index + 1));
+
+    return index;
+  }
+
+  private Object[] allocate(int bucket) {
+    var slots = new Object[FIRST_BUCKET_SIZE << bucket];
+    if (buckets.compareAndSet(bucket, null, slots)) {
+      return slots;
+    }
+
+    // Another thread installed the bucket first, so ours is just dropped
+    return buckets.get(bucket);
+  }
+
+  Object[] slots(int bucket) {
+    return buckets.get(bucket);
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> T read(Object[] slots, int offset) {
+    // SAFETY: only push stores the values into slots and all of them are T
+    return (T) SLOT.getAcquire(slots, offset);
+  }
+
+  static int bucket(int index) {
+    var position = index + FIRST_BUCKET_SIZE;
+    return Integer.SIZE - 1 - Integer.numberOfLeadingZeros(position) - FIRST_BUCKET_BITS;
+  }
+
+  static int offset(int index, int bucket) {
+    return index + FIRST_BUCKET_SIZE - (FIRST_BUCKET_SIZE << bucket);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("ConcurrentVector[");
+    var iterator = intoIterator();
+    Optional<T> element;
+    var first = true;
+    while ((element = iterator.next()).isPresent()) {
+      if (!first) {
+        builder.append(", ");
+      }
+
+      builder.append(element.get());
+      first = false;
+    }
+
+    builder.append("]");
+    return builder.toString();
+  }
+}
@@ -0,0 +1,156 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleIterator;
+import jarkz.collection.result.Result;
+import java.util.Arrays;
+import java.util.OptionalDouble;
+
+/**
+ * The primitive specialization of {@link Vector} for {@code double} values. It holds the values in
+ * plain {@code double[]} array, so neither storing nor iterating boxes them.
+ */
+public class DoubleVector {
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  private double[] data;
+  private int len;
+
+  public DoubleVector() {
+    data = new double[0];
+    len = 0;
+  }
+
+  public DoubleVector(double... data) {
+    this.data = Arrays.copyOf(data, data.length);
+    len = data.length;
+  }
+
+  /** Creates the empty vector which can hold given count of elements without reallocation. */
+  public static DoubleVector withCapacity(int capacity) {
+    if (capacity < 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+
+    var vector = new DoubleVector();
+    vector.data = new double[capacity];
+    return vector;
+  }
+
+  /** Creates the DoubleVector with unboxed values of given {@link Vector}. */
+  public static DoubleVector from(Vector<Double> vector) {
+    return collect(vector.intoIterator().mapToDouble(Double::doubleValue));
+  }
+
+  public int len() {
+    return len;
+  }
+
+  public boolean isEmpty() {
+    return len == 0;
+  }
+
+  public OptionalDouble pop() {
+    if (isEmpty()) {
+      return OptionalDouble.empty();
+    }
+
+    len -= 1;
+    return OptionalDouble.of(data[len]);
+  }
+
+  public void push(double element) {
+    if (data.length == len) {
+      grow();
+    }
+
+    data[len] = element;
+    len += 1;
+  }
+
+  public OptionalDouble at(int index) {
+    if (index < 0 || len <= index) {
+      return OptionalDouble.empty();
+    }
+
+    return OptionalDouble.of(data[index]);
+  }
+
+  /**
+   * Sorts values in ascending order by radix sort, which takes linear time. The order is the one of
+   * {@link Double#compare}: {@code -0.0} goes before {@code 0.0} and NaN values go last.
+   */
+  public void sort() {
+    RadixSort.sort(data, len);
+  }
+
+  /**
+   * Searches the value in the sorted vector. Returns Ok with its index, or Err with the index where
+   * it can be inserted keeping the order.
+   */
+  public Result<Integer, Integer> binarySearch(double value) {
+    var from = 0;
+    var to = len;
+    while (from < to) {
+      var middle = (from + to) >>> 1;
+      var ordering = Double.compare(data[middle], value);
+      if (ordering < 0) {
+        from = middle + 1;
+      } else if (ordering > 0) {
+        to = middle;
+      } else {
+        return Result.Ok(middle);
+      }
+    }
+
+    return Result.Err(from);
+  }
+
+  public IterDoubleVector intoIterator() {
+    return new IterDoubleVector(this);
+  }
+
+  public static DoubleVector collect(DoubleIterator iterator) {
+    var vector = new DoubleVector();
+    vector.extend(iterator);
+    return vector;
+  }
+
+  public void extend(DoubleIterator iterator) {
+    iterator.forEach(element -> push(element));
+  }
+
+  /** Boxes all values into a new {@link Vector}. */
+  public Vector<Double> boxed() {
+    return Vector.collect(intoIterator().boxed());
+  }
+
+  double[] array() {
+    return data;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("DoubleVector[");
+    for (int i = 0; i < len; i++) {
+      builder.append(data[i]);
+
+      if (i < len - 1) {
+        builder.append(", ");
+      }
+    }
+
+    builder.append("]");
+    return builder.toString();
+  }
+
+  private void grow() {
+    if (len == MAX_CAPACITY) {
+      throw new IllegalArgumentException("Can't reserve 1 elements for vector with length " + len);
+    }
+
+    // The doubled length overflows for the huge vector, so it's clamped by the max capacity
+    var newLen = (int) Math.min((len + 1L) * 2, MAX_CAPACITY);
+    data = Arrays.copyOf(data, newLen);
+  }
+}
@@ -0,0 +1,21 @@
+package jarkz.collection.vector;
+
+/**
+ * The rule by which {@link Vector} computes the new capacity when the current one is not enough.
+ * The result may be less than required count of elements, then the vector allocates exactly the
+ * required count. The vector clamps the result by its max capacity, and the negative result is
+ * taken as overflow of int, so the vector grows to the max capacity then.
+ */
+@FunctionalInterface
+public interface GrowthPolicy {
+  /** Doubles the capacity. It's the default policy with the least count of reallocations. */
+  public static final GrowthPolicy DOUBLE =
+      (capacity, required) -> (int) Math.min((capacity + 1L) * 2, Integer.MAX_VALUE);
+
+  /** Grows the capacity by half. Use it for memory-sensitive cases. */
+  public static final GrowthPolicy ONE_AND_HALF =
+      (capacity, required) ->
+          (int) Math.min((long) capacity + (capacity >> 1) + 1, Integer.MAX_VALUE);
+
+  public int grow(int capacity, int required);
+}
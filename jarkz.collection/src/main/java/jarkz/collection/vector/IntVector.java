@@ -0,0 +1,153 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.IntIterator;
+import jarkz.collection.result.Result;
+import java.util.Arrays;
+import java.util.OptionalInt;
+
+/**
+ * The primitive specialization of {@link Vector} for {@code int} values. It holds the values in
+ * plain {@code int[]} array, so neither storing nor iterating boxes them.
+ */
+public class IntVector {
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  private int[] data;
+  private int len;
+
+  public IntVector() {
+    data = new int[0];
+    len = 0;
+  }
+
+  public IntVector(int... data) {
+    this.data = Arrays.copyOf(data, data.length);
+    len = data.length;
+  }
+
+  /** Creates the empty vector which can hold given count of elements without reallocation. */
+  public static IntVector withCapacity(int capacity) {
+    if (capacity < 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+
+    var vector = new IntVector();
+    vector.data = new int[capacity];
+    return vector;
+  }
+
+  /** Creates the IntVector with unboxed values of given {@link Vector}. */
+  public static IntVector from(Vector<Integer> vector) {
+    return collect(vector.intoIterator().mapToInt(Integer::intValue));
+  }
+
+  public int len() {
+    return len;
+  }
+
+  public boolean isEmpty() {
+    return len == 0;
+  }
+
+  public OptionalInt pop() {
+    if (isEmpty()) {
+      return OptionalInt.empty();
+    }
+
+    len -= 1;
+    return OptionalInt.of(data[len]);
+  }
+
+  public void push(int element) {
+    if (data.length == len) {
+      grow();
+    }
+
+    data[len] = element;
+    len += 1;
+  }
+
+  public OptionalInt at(int index) {
+    if (index < 0 || len <= index) {
+      return OptionalInt.empty();
+    }
+
+    return OptionalInt.of(data[index]);
+  }
+
+  /** Sorts values in ascending order by radix sort, which takes linear time. */
+  public void sort() {
+    RadixSort.sort(data, len);
+  }
+
+  /**
+   * Searches the value in the sorted vector. Returns Ok with its index, or Err with the index where
+   * it can be inserted keeping the order.
+   */
+  public Result<Integer, Integer> binarySearch(int value) {
+    var from = 0;
+    var to = len;
+    while (from < to) {
+      var middle = (from + to) >>> 1;
+      var ordering = Integer.compare(data[middle], value);
+      if (ordering < 0) {
+        from = middle + 1;
+      } else if (ordering > 0) {
+        to = middle;
+      } else {
+        return Result.Ok(middle);
+      }
+    }
+
+    return Result.Err(from);
+  }
+
+  public IterIntVector intoIterator() {
+    return new IterIntVector(this);
+  }
+
+  public static IntVector collect(IntIterator iterator) {
+    var vector = new IntVector();
+    vector.extend(iterator);
+    return vector;
+  }
+
+  public void extend(IntIterator iterator) {
+    iterator.forEach(element -> push(element));
+  }
+
+  /** Boxes all values into a new {@link Vector}. */
+  public Vector<Integer> boxed() {
+    return Vector.collect(intoIterator().boxed());
+  }
+
+  int[] array() {
+    return data;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("IntVector[");
+    for (int i = 0; i < len; i++) {
+      builder.append(data[i]);
+
+      if (i < len - 1) {
+        builder.append(", ");
+      }
+    }
+
+    builder.append("]");
+    return builder.toString();
+  }
+
+  private void grow() {
+    if (len == MAX_CAPACITY) {
+      throw new IllegalArgumentException("Can't reserve 1 elements for vector with length " + len);
+    }
+
+    // The doubled length overflows for the huge vector, so it's clamped by the max capacity
+    var newLen = (int) Math.min((len + 1L) * 2, MAX_CAPACITY);
+    data = Arrays.copyOf(data, newLen);
+  }
+}
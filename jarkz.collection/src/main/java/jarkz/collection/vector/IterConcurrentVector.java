@@ -0,0 +1,100 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.SizeHint;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class IterConcurrentVector<T> implements Iterator<T> {
+  private ConcurrentVector<T> vector;
+  private int frontPointer;
+  private int backPointer;
+
+  IterConcurrentVector(ConcurrentVector<T> vector, int backPointer) {
+    this.vector = vector;
+    this.frontPointer = 0;
+    this.backPointer = backPointer;
+  }
+
+  private boolean isEnd() {
+    return frontPointer >= backPointer;
+  }
+
+  /** Reads the published element or ends the snapshot on the first unpublished slot. */
+  private T probe() {
+    var bucket = ConcurrentVector.bucket(frontPointer);
+    var slots = vector.slots(bucket);
+    T element = null;
+    if (slots != null) {
+      element = ConcurrentVector.read(slots, ConcurrentVector.offset(frontPointer, bucket));
+    }
+
+    if (element == null) {
+      backPointer = frontPointer;
+    }
+
+    return element;
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    return SizeHint.between(0, Math.max(backPointer - frontPointer, 0));
+  }
+
+  @Override
+  public Optional<T> next() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    var element = probe();
+    if (element == null) {
+      return Optional.empty();
+    }
+
+    frontPointer += 1;
+    return Optional.of(element);
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> body) {
+    if (isEnd()) {
+      return false;
+    }
+
+    var element = probe();
+    if (element == null) {
+      return false;
+    }
+
+    frontPointer += 1;
+    body.accept(element);
+    return true;
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    while (!isEnd()) {
+      var bucket = ConcurrentVector.bucket(frontPointer);
+      var slots = vector.slots(bucket);
+      if (slots == null) {
+        backPointer = frontPointer;
+        return;
+      }
+
+      // Walk the bucket directly instead of computing the bucket for each index
+      var offset = ConcurrentVector.offset(frontPointer, bucket);
+      var end = offset + Math.min(slots.length - offset, backPointer - frontPointer);
+      for (; offset < end; offset++) {
+        T element = ConcurrentVector.read(slots, offset);
+        if (element == null) {
+          backPointer = frontPointer;
+          return;
+        }
+
+        frontPointer += 1;
+        body.accept(element);
+      }
+    }
+  }
+}
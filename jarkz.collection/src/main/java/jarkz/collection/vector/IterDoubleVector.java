@@ -0,0 +1,51 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleIterator;
+import java.util.OptionalDouble;
+import java.util.function.DoubleConsumer;
+
+public class IterDoubleVector implements DoubleIterator {
+  private double[] data;
+  private int frontPointer = 0;
+  private int backPointer;
+
+  public IterDoubleVector(DoubleVector data) {
+    this.data = data.array();
+    backPointer = data.len();
+  }
+
+  private boolean isEnd() {
+    return frontPointer >= backPointer;
+  }
+
+  @Override
+  public OptionalDouble next() {
+    if (isEnd()) {
+      return OptionalDouble.empty();
+    }
+
+    var element = data[frontPointer];
+    frontPointer += 1;
+    return OptionalDouble.of(element);
+  }
+
+  public OptionalDouble nextBack() {
+    if (isEnd()) {
+      return OptionalDouble.empty();
+    }
+
+    backPointer -= 1;
+    return OptionalDouble.of(data[backPointer]);
+  }
+
+  @Override
+  public void forEach(DoubleConsumer body) {
+    var array = data;
+    var end = backPointer;
+    for (int i = frontPointer; i < end; i++) {
+      body.accept(array[i]);
+    }
+
+    frontPointer = end;
+  }
+}
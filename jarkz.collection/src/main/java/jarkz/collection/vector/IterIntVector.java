@@ -0,0 +1,51 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.IntIterator;
+import java.util.OptionalInt;
+import java.util.function.IntConsumer;
+
+public class IterIntVector implements IntIterator {
+  private int[] data;
+  private int frontPointer = 0;
+  private int backPointer;
+
+  public IterIntVector(IntVector data) {
+    this.data = data.array();
+    backPointer = data.len();
+  }
+
+  private boolean isEnd() {
+    return frontPointer >= backPointer;
+  }
+
+  @Override
+  public OptionalInt next() {
+    if (isEnd()) {
+      return OptionalInt.empty();
+    }
+
+    var element = data[frontPointer];
+    frontPointer += 1;
+    return OptionalInt.of(element);
+  }
+
+  public OptionalInt nextBack() {
+    if (isEnd()) {
+      return OptionalInt.empty();
+    }
+
+    backPointer -= 1;
+    return OptionalInt.of(data[backPointer]);
+  }
+
+  @Override
+  public void forEach(IntConsumer body) {
+    var array = data;
+    var end = backPointer;
+    for (int i = frontPointer; i < end; i++) {
+      body.accept(array[i]);
+    }
+
+    frontPointer = end;
+  }
+}
@@ -0,0 +1,51 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.LongIterator;
+import java.util.OptionalLong;
+import java.util.function.LongConsumer;
+
+public class IterLongVector implements LongIterator {
+  private long[] data;
+  private int frontPointer = 0;
+  private int backPointer;
+
+  public IterLongVector(LongVector data) {
+    this.data = data.array();
+    backPointer = data.len();
+  }
+
+  private boolean isEnd() {
+    return frontPointer >= backPointer;
+  }
+
+  @Override
+  public OptionalLong next() {
+    if (isEnd()) {
+      return OptionalLong.empty();
+    }
+
+    var element = data[frontPointer];
+    frontPointer += 1;
+    return OptionalLong.of(element);
+  }
+
+  public OptionalLong nextBack() {
+    if (isEnd()) {
+      return OptionalLong.empty();
+    }
+
+    backPointer -= 1;
+    return OptionalLong.of(data[backPointer]);
+  }
+
+  @Override
+  public void forEach(LongConsumer body) {
+    var array = data;
+    var end = backPointer;
+    for (int i = frontPointer; i < end; i++) {
+      body.accept(array[i]);
+    }
+
+    frontPointer = end;
+  }
+}
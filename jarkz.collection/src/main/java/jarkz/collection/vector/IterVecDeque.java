@@ -0,0 +1,104 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.SizeHint;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class IterVecDeque<T> implements DoubleEndedIterator<T> {
+  private T[] data;
+  private int head;
+  private int frontPointer;
+  private int backPointer;
+
+  IterVecDeque(T[] data, int head, int len) {
+    this.data = data;
+    this.head = head;
+    this.frontPointer = 0;
+    this.backPointer = len;
+  }
+
+  private boolean isEnd() {
+    return frontPointer >= backPointer;
+  }
+
+  private T element(int offset) {
+    return data[(head + offset) & (data.length - 1)];
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    return SizeHint.exact(Math.max(backPointer - frontPointer, 0));
+  }
+
+  @Override
+  public Optional<T> next() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    var element = element(frontPointer);
+    frontPointer += 1;
+    return Optional.of(element);
+  }
+
+  @Override
+  public Optional<T> nextBack() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    backPointer -= 1;
+    return Optional.of(element(backPointer));
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    var element = element(frontPointer);
+    frontPointer += 1;
+    action.accept(element);
+    return true;
+  }
+
+  @Override
+  public boolean tryAdvanceBack(Consumer<T> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    backPointer -= 1;
+    action.accept(element(backPointer));
+    return true;
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    if (isEnd()) {
+      return;
+    }
+
+    // The ring is at most two contiguous runs, so walk them without masking each index
+    var array = data;
+    var start = head + frontPointer;
+    var end = head + backPointer;
+    if (start >= array.length) {
+      start -= array.length;
+      end -= array.length;
+    }
+
+    var firstEnd = Math.min(end, array.length);
+    for (int i = start; i < firstEnd; i++) {
+      body.accept(array[i]);
+    }
+
+    for (int i = 0; i < end - array.length; i++) {
+      body.accept(array[i]);
+    }
+
+    frontPointer = backPointer;
+  }
+}
@@ -1,31 +1,44 @@
 package jarkz.collection.vector;
 
 import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.SizeHint;
+import jarkz.collection.iterator.SplittableIterator;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-public class IterVector<T> implements DoubleEndedIterator<T> {
-  private Vector<T> data;
-  private int frontPointer = 0;
+public class IterVector<T> implements DoubleEndedIterator<T>, SplittableIterator<T> {
+  private T[] data;
+  private int frontPointer;
   private int backPointer;
 
   public IterVector(Vector<T> data) {
+    this(data.array(), 0, data.len());
+  }
+
+  IterVector(T[] data, int frontPointer, int backPointer) {
     this.data = data;
-    backPointer = data.len();
+    this.frontPointer = frontPointer;
+    this.backPointer = backPointer;
   }
 
   private boolean isEnd() {
     return frontPointer >= backPointer;
   }
 
+  @Override
+  public SizeHint sizeHint() {
+    return SizeHint.exact(Math.max(backPointer - frontPointer, 0));
+  }
+
   @Override
   public Optional<T> next() {
     if (isEnd()) {
       return Optional.empty();
     }
 
-    var element = data.at(frontPointer);
+    var element = data[frontPointer];
     frontPointer += 1;
-    return element;
+    return Optional.of(element);
   }
 
   @Override
@@ -35,6 +48,52 @@ public class IterVector<T> implements DoubleEndedIterator<T> {
     }
 
     backPointer -= 1;
-    return data.at(backPointer);
+    return Optional.of(data[backPointer]);
+  }
+
+  @Override
+  public Optional<SplittableIterator<T>> trySplit() {
+    if (backPointer - frontPointer < 2) {
+      return Optional.empty();
+    }
+
+    var middle = frontPointer + (backPointer - frontPointer) / 2;
+    var prefix = new IterVector<>(data, frontPointer, middle);
+    frontPointer = middle;
+    return Optional.of(prefix);
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<T> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    var element = data[frontPointer];
+    frontPointer += 1;
+    action.accept(element);
+    return true;
+  }
+
+  @Override
+  public boolean tryAdvanceBack(Consumer<T> action) {
+    if (isEnd()) {
+      return false;
+    }
+
+    backPointer -= 1;
+    action.accept(data[backPointer]);
+    return true;
+  }
+
+  @Override
+  public void forEach(Consumer<T> body) {
+    var array = data;
+    var end = backPointer;
+    for (int i = frontPointer; i < end; i++) {
+      body.accept(array[i]);
+    }
+
+    frontPointer = end;
   }
 }
@@ -0,0 +1,153 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.LongIterator;
+import jarkz.collection.result.Result;
+import java.util.Arrays;
+import java.util.OptionalLong;
+
+/**
+ * The primitive specialization of {@link Vector} for {@code long} values. It holds the values in
+ * plain {@code long[]} array, so neither storing nor iterating boxes them.
+ */
+public class LongVector {
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  private long[] data;
+  private int len;
+
+  public LongVector() {
+    data = new long[0];
+    len = 0;
+  }
+
+  public LongVector(long... data) {
+    this.data = Arrays.copyOf(data, data.length);
+    len = data.length;
+  }
+
+  /** Creates the empty vector which can hold given count of elements without reallocation. */
+  public static LongVector withCapacity(int capacity) {
+    if (capacity < 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+
+    var vector = new LongVector();
+    vector.data = new long[capacity];
+    return vector;
+  }
+
+  /** Creates the LongVector with unboxed values of given {@link Vector}. */
+  public static LongVector from(Vector<Long> vector) {
+    return collect(vector.intoIterator().mapToLong(Long::longValue));
+  }
+
+  public int len() {
+    return len;
+  }
+
+  public boolean isEmpty() {
+    return len == 0;
+  }
+
+  public OptionalLong pop() {
+    if (isEmpty()) {
+      return OptionalLong.empty();
+    }
+
+    len -= 1;
+    return OptionalLong.of(data[len]);
+  }
+
+  public void push(long element) {
+    if (data.length == len) {
+      grow();
+    }
+
+    data[len] = element;
+    len += 1;
+  }
+
+  public OptionalLong at(int index) {
+    if (index < 0 || len <= index) {
+      return OptionalLong.empty();
+    }
+
+    return OptionalLong.of(data[index]);
+  }
+
+  /** Sorts values in ascending order by radix sort, which takes linear time. */
+  public void sort() {
+    RadixSort.sort(data, len);
+  }
+
+  /**
+   * Searches the value in the sorted vector. Returns Ok with its index, or Err with the index where
+   * it can be inserted keeping the order.
+   */
+  public Result<Integer, Integer> binarySearch(long value) {
+    var from = 0;
+    var to = len;
+    while (from < to) {
+      var middle = (from + to) >>> 1;
+      var ordering = Long.compare(data[middle], value);
+      if (ordering < 0) {
+        from = middle + 1;
+      } else if (ordering > 0) {
+        to = middle;
+      } else {
+        return Result.Ok(middle);
+      }
+    }
+
+    return Result.Err(from);
+  }
+
+  public IterLongVector intoIterator() {
+    return new IterLongVector(this);
+  }
+
+  public static LongVector collect(LongIterator iterator) {
+    var vector = new LongVector();
+    vector.extend(iterator);
+    return vector;
+  }
+
+  public void extend(LongIterator iterator) {
+    iterator.forEach(element -> push(element));
+  }
+
+  /** Boxes all values into a new {@link Vector}. */
+  public Vector<Long> boxed() {
+    return Vector.collect(intoIterator().boxed());
+  }
+
+  long[] array() {
+    return data;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("LongVector[");
+    for (int i = 0; i < len; i++) {
+      builder.append(data[i]);
+
+      if (i < len - 1) {
+        builder.append(", ");
+      }
+    }
+
+    builder.append("]");
+    return builder.toString();
+  }
+
+  private void grow() {
+    if (len == MAX_CAPACITY) {
+      throw new IllegalArgumentException("Can't reserve 1 elements for vector with length " + len);
+    }
+
+    // The doubled length overflows for the huge vector, so it's clamped by the max capacity
+    var newLen = (int) Math.min((len + 1L) * 2, MAX_CAPACITY);
+    data = Arrays.copyOf(data, newLen);
+  }
+}
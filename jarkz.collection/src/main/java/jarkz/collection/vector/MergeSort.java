@@ -0,0 +1,279 @@
+package jarkz.collection.vector;
+
+import java.util.Comparator;
+
+/**
+ * The stable adaptive merge sort in the spirit of TimSort. It finds the natural runs of elements,
+ * extends the short ones by binary insertion sort and merges the runs keeping the stack of their
+ * lengths balanced. So the sorted and reversed inputs take linear time and the merged runs of
+ * partially sorted input are mostly moved by {@link System#arraycopy}.
+ */
+final class MergeSort<T> {
+  private static final int MAX_INSERTION = 20;
+  private static final int MIN_MERGE = 32;
+  // The balanced stack of runs grows as logarithm with base of golden ratio, so it's enough for
+  // any array length
+  private static final int MAX_RUNS = 64;
+
+  private final T[] data;
+  private final Comparator<? super T> comparator;
+  private Object[] buffer;
+  private final int[] runStart = new int[MAX_RUNS];
+  private final int[] runLen = new int[MAX_RUNS];
+  private int runCount;
+
+  private MergeSort(T[] data, Comparator<? super T> comparator) {
+    this.data = data;
+    this.comparator = comparator;
+  }
+
+  /** Sorts the elements from (inclusive) to (exclusive), the equal elements keep their order. */
+  static <T> void sort(T[] data, int from, int to, Comparator<? super T> comparator) {
+    if (to - from < 2) {
+      return;
+    }
+
+    if (to - from <= MAX_INSERTION) {
+      insertionSort(data, from, to, from + 1, comparator);
+      return;
+    }
+
+    new MergeSort<>(data, comparator).run(from, to);
+  }
+
+  private void run(int from, int to) {
+    var minRun = minRun(to - from);
+    var start = from;
+    while (start < to) {
+      var end = findRun(start, to);
+      if (end - start < minRun) {
+        var forced = Math.min(start + minRun, to);
+        insertionSort(data, start, forced, end, comparator);
+        end = forced;
+      }
+
+      runStart[runCount] = start;
+      runLen[runCount] = end - start;
+      runCount += 1;
+      collapse();
+      start = end;
+    }
+
+    forceCollapse();
+  }
+
+  /**
+   * The length of run below which it's extended by insertion sort. It's chosen so that the count of
+   * runs is a power of two or a bit less, which keeps the final merges balanced.
+   */
+  private static int minRun(int len) {
+    var lowBits = 0;
+    while (len >= MIN_MERGE) {
+      lowBits |= len & 1;
+      len >>= 1;
+    }
+
+    return len + lowBits;
+  }
+
+  /**
+   * Returns the end of run starting at given position. The strictly descending run is reversed, so
+   * the equal elements never swap.
+   */
+  private int findRun(int start, int to) {
+    var end = start + 1;
+    if (end == to) {
+      return end;
+    }
+
+    if (comparator.compare(data[end], data[start]) < 0) {
+      end += 1;
+      while (end < to && comparator.compare(data[end], data[end - 1]) < 0) {
+        end += 1;
+      }
+
+      reverse(data, start, end);
+    } else {
+      end += 1;
+      while (end < to && comparator.compare(data[end], data[end - 1]) >= 0) {
+        end += 1;
+      }
+    }
+
+    return end;
+  }
+
+  /**
+   * Merges the runs on top of stack until their lengths grow faster than Fibonacci numbers from top
+   * to bottom. It checks three top runs, because checking only two breaks the invariant deeper in
+   * the stack.
+   */
+  private void collapse() {
+    while (runCount > 1) {
+      var top = runCount - 2;
+      if ((top > 0 && runLen[top - 1] <= runLen[top] + runLen[top + 1])
+          || (top > 1 && runLen[top - 2] <= runLen[top - 1] + runLen[top])) {
+        if (runLen[top - 1] < runLen[top + 1]) {
+          top -= 1;
+        }
+      } else if (runLen[top] > runLen[top + 1]) {
+        return;
+      }
+
+      mergeAt(top);
+    }
+  }
+
+  /** Merges all remaining runs, the shorter neighbour of top run goes first. */
+  private void forceCollapse() {
+    while (runCount > 1) {
+      var top = runCount - 2;
+      if (top > 0 && runLen[top - 1] < runLen[top + 1]) {
+        top -= 1;
+      }
+
+      mergeAt(top);
+    }
+  }
+
+  /** Merges the runs at given index and the next one in stack. */
+  private void mergeAt(int index) {
+    var start = runStart[index];
+    var middle = start + runLen[index];
+    var end = middle + runLen[index + 1];
+
+    runLen[index] += runLen[index + 1];
+    for (var i = index + 1; i < runCount - 1; i++) {
+      runStart[i] = runStart[i + 1];
+      runLen[i] = runLen[i + 1];
+    }
+
+    runCount -= 1;
+    merge(start, middle, end);
+  }
+
+  private void merge(int start, int middle, int end) {
+    if (comparator.compare(data[middle - 1], data[middle]) <= 0) {
+      return;
+    }
+
+    // The elements which are already in place are skipped: the left ones not greater than the
+    // first right element and the right ones not less than the last left element
+    start = upperBound(data, start, middle, data[middle], comparator);
+    end = lowerBound(data, middle, end, data[middle - 1], comparator);
+
+    if (middle - start <= end - middle) {
+      mergeForward(start, middle, end);
+    } else {
+      mergeBackward(start, middle, end);
+    }
+  }
+
+  private Object[] buffer(int len) {
+    if (buffer == null || buffer.length < len) {
+      buffer = new Object[Math.max(len, buffer == null ? 0 : buffer.length * 2)];
+    }
+
+    return buffer;
+  }
+
+  /** Copies the shorter left run into buffer and merges from the start. */
+  @SuppressWarnings("unchecked")
+  private void mergeForward(int start, int middle, int end) {
+    var leftLen = middle - start;
+    var left = buffer(leftLen);
+    System.arraycopy(data, start, left, 0, leftLen);
+
+    var i = 0;
+    var j = middle;
+    var out = start;
+    while (i < leftLen && j < end) {
+      // SAFETY: the buffer holds only elements copied from the T[] array
+      var lhs = (T) left[i];
+      if (comparator.compare(data[j], lhs) < 0) {
+        data[out++] = data[j++];
+      } else {
+        data[out++] = lhs;
+        i += 1;
+      }
+    }
+
+    System.arraycopy(left, i, data, out, leftLen - i);
+  }
+
+  /** Copies the shorter right run into buffer and merges from the end. */
+  @SuppressWarnings("unchecked")
+  private void mergeBackward(int start, int middle, int end) {
+    var rightLen = end - middle;
+    var right = buffer(rightLen);
+    System.arraycopy(data, middle, right, 0, rightLen);
+
+    var i = middle - 1;
+    var j = rightLen - 1;
+    var out = end - 1;
+    while (i >= start && j >= 0) {
+      // SAFETY: the buffer holds only elements copied from the T[] array
+      var rhs = (T) right[j];
+      if (comparator.compare(rhs, data[i]) < 0) {
+        data[out--] = data[i--];
+      } else {
+        data[out--] = rhs;
+        j -= 1;
+      }
+    }
+
+    System.arraycopy(right, 0, data, start, j + 1);
+  }
+
+  /**
+   * Sorts the elements from (inclusive) to (exclusive), where the elements before sorted position
+   * are already sorted. It finds the place by binary search, so it's cheap for costly comparators.
+   */
+  static <T> void insertionSort(
+      T[] data, int from, int to, int sorted, Comparator<? super T> comparator) {
+    for (var i = Math.max(sorted, from + 1); i < to; i++) {
+      var element = data[i];
+      var place = upperBound(data, from, i, element, comparator);
+      System.arraycopy(data, place, data, place + 1, i - place);
+      data[place] = element;
+    }
+  }
+
+  /** The first position in sorted range where the element is greater than the given one. */
+  static <T> int upperBound(
+      T[] data, int from, int to, T element, Comparator<? super T> comparator) {
+    while (from < to) {
+      var middle = (from + to) >>> 1;
+      if (comparator.compare(element, data[middle]) < 0) {
+        to = middle;
+      } else {
+        from = middle + 1;
+      }
+    }
+
+    return from;
+  }
+
+  /** The first position in sorted range where the element is not less than the given one. */
+  static <T> int lowerBound(
+      T[] data, int from, int to, T element, Comparator<? super T> comparator) {
+    while (from < to) {
+      var middle = (from + to) >>> 1;
+      if (comparator.compare(data[middle], element) < 0) {
+        from = middle + 1;
+      } else {
+        to = middle;
+      }
+    }
+
+    return from;
+  }
+
+  static <T> void reverse(T[] data, int from, int to) {
+    for (int i = from, j = to - 1; i < j; i++, j--) {
+      var element = data[i];
+      data[i] = data[j];
+      data[j] = element;
+    }
+  }
+}
@@ -0,0 +1,190 @@
+package jarkz.collection.vector;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The stable merge sort on {@link ForkJoinPool}. It splits the range in halves until they become
+ * smaller than the threshold, sorts them by {@link MergeSort} and merges the halves in parallel
+ * too: the longer half is split in the middle and the other one by binary search, so both parts of
+ * merge may run independently.
+ */
+final class ParallelMergeSort {
+  private static final int MIN_THRESHOLD = 8192;
+  private static final int TASKS_PER_THREAD = 4;
+
+  private ParallelMergeSort() {}
+
+  /** Sorts the elements from (inclusive) to (exclusive), the equal elements keep their order. */
+  static <T> void sort(
+      T[] data, int from, int to, Comparator<? super T> comparator, ForkJoinPool pool) {
+    var len = to - from;
+    var threshold = Math.max(len / (pool.getParallelism() * TASKS_PER_THREAD), MIN_THRESHOLD);
+    if (len <= threshold) {
+      MergeSort.sort(data, from, to, comparator);
+      return;
+    }
+
+    var buffer = new Object[len];
+    pool.invoke(new SortTask<>(data, buffer, from, from, to, comparator, threshold));
+  }
+
+  private static class SortTask<T> extends RecursiveAction {
+    private final T[] data;
+    private final Object[] buffer;
+    private final int offset;
+    private final int from;
+    private final int to;
+    private final Comparator<? super T> comparator;
+    private final int threshold;
+
+    /** The buffer is shared by all tasks, the element at index i of data uses (i - offset) slot. */
+    SortTask(
+        T[] data,
+        Object[] buffer,
+        int offset,
+        int from,
+        int to,
+        Comparator<? super T> comparator,
+        int threshold) {
+      this.data = data;
+      this.buffer = buffer;
+      this.offset = offset;
+      this.from = from;
+      this.to = to;
+      this.comparator = comparator;
+      this.threshold = threshold;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void compute() {
+      if (to - from <= threshold) {
+        MergeSort.sort(data, from, to, comparator);
+        return;
+      }
+
+      var middle = (from + to) >>> 1;
+      invokeAll(
+          new SortTask<>(data, buffer, offset, from, middle, comparator, threshold),
+          new SortTask<>(data, buffer, offset, middle, to, comparator, threshold));
+
+      if (comparator.compare(data[middle - 1], data[middle]) <= 0) {
+        return;
+      }
+
+      System.arraycopy(data, from, buffer, from - offset, to - from);
+      // SAFETY: the buffer holds only elements copied from the T[] array
+      var source = (T[]) buffer;
+      new MergeTask<>(
+              source,
+              from - offset,
+              middle - offset,
+              middle - offset,
+              to - offset,
+              data,
+              from,
+              comparator,
+              threshold)
+          .compute();
+    }
+  }
+
+  /** Merges two sorted ranges of source into destination starting at given position. */
+  private static class MergeTask<T> extends RecursiveAction {
+    private final T[] source;
+    private final int leftFrom;
+    private final int leftTo;
+    private final int rightFrom;
+    private final int rightTo;
+    private final T[] destination;
+    private final int destinationFrom;
+    private final Comparator<? super T> comparator;
+    private final int threshold;
+
+    MergeTask(
+        T[] source,
+        int leftFrom,
+        int leftTo,
+        int rightFrom,
+        int rightTo,
+        T[] destination,
+        int destinationFrom,
+        Comparator<? super T> comparator,
+        int threshold) {
+      this.source = source;
+      this.leftFrom = leftFrom;
+      this.leftTo = leftTo;
+      this.rightFrom = rightFrom;
+      this.rightTo = rightTo;
+      this.destination = destination;
+      this.destinationFrom = destinationFrom;
+      this.comparator = comparator;
+      this.threshold = threshold;
+    }
+
+    @Override
+    protected void compute() {
+      var leftLen = leftTo - leftFrom;
+      var rightLen = rightTo - rightFrom;
+      if (leftLen + rightLen <= threshold || leftLen == 0 || rightLen == 0) {
+        merge();
+        return;
+      }
+
+      // The left elements equal to the split element go before the right ones in both cases,
+      // so the merge stays stable
+      int leftMiddle;
+      int rightMiddle;
+      if (leftLen >= rightLen) {
+        leftMiddle = (leftFrom + leftTo) >>> 1;
+        rightMiddle =
+            MergeSort.lowerBound(source, rightFrom, rightTo, source[leftMiddle], comparator);
+      } else {
+        rightMiddle = (rightFrom + rightTo) >>> 1;
+        leftMiddle =
+            MergeSort.upperBound(source, leftFrom, leftTo, source[rightMiddle], comparator);
+      }
+
+      var destinationMiddle = destinationFrom + (leftMiddle - leftFrom) + (rightMiddle - rightFrom);
+      invokeAll(
+          new MergeTask<>(
+              source,
+              leftFrom,
+              leftMiddle,
+              rightFrom,
+              rightMiddle,
+              destination,
+              destinationFrom,
+              comparator,
+              threshold),
+          new MergeTask<>(
+              source,
+              leftMiddle,
+              leftTo,
+              rightMiddle,
+              rightTo,
+              destination,
+              destinationMiddle,
+              comparator,
+              threshold));
+    }
+
+    private void merge() {
+      var i = leftFrom;
+      var j = rightFrom;
+      var out = destinationFrom;
+      while (i < leftTo && j < rightTo) {
+        if (comparator.compare(source[j], source[i]) < 0) {
+          destination[out++] = source[j++];
+        } else {
+          destination[out++] = source[i++];
+        }
+      }
+
+      System.arraycopy(source, i, destination, out, leftTo - i);
+      System.arraycopy(source, j, destination, out + leftTo - i, rightTo - j);
+    }
+  }
+}
@@ -0,0 +1,345 @@
+package jarkz.collection.vector;
+
+import java.util.Comparator;
+
+/**
+ * The pattern-defeating quicksort by Orson Peters. It's the quicksort which falls back to insertion
+ * sort on small ranges and to heap sort after too many unbalanced partitions, so it always takes
+ * O(n log n) time. Besides, it finishes the sorted ranges in linear time, groups the elements equal
+ * to pivot at once and shuffles some elements when a partition is unbalanced to break the patterns
+ * which make quicksort slow.
+ *
+ * <p>> <b>Note</b>: the sort is unstable, the equal elements may be reordered.
+ */
+final class PdqSort<T> {
+  private static final int MAX_INSERTION = 20;
+  private static final int SHORTEST_MEDIAN_OF_MEDIANS = 50;
+  private static final int SHORTEST_SHIFTING = 50;
+  private static final int MAX_SHIFTING_STEPS = 5;
+  private static final int MAX_SWAPS = 4 * 3;
+
+  private final T[] data;
+  private final Comparator<? super T> comparator;
+  private boolean wasPartitioned;
+  private int swaps;
+  private int seed;
+
+  private PdqSort(T[] data, Comparator<? super T> comparator) {
+    this.data = data;
+    this.comparator = comparator;
+  }
+
+  /** Sorts the elements from (inclusive) to (exclusive). */
+  static <T> void sort(T[] data, int from, int to, Comparator<? super T> comparator) {
+    if (to - from < 2) {
+      return;
+    }
+
+    var sorter = new PdqSort<>(data, comparator);
+    sorter.seed = to - from;
+    // The limit of unbalanced partitions is the binary logarithm of length
+    sorter.recurse(from, to, false, 32 - Integer.numberOfLeadingZeros(to - from));
+  }
+
+  private boolean less(int lhs, int rhs) {
+    return comparator.compare(data[lhs], data[rhs]) < 0;
+  }
+
+  private void swap(int lhs, int rhs) {
+    var element = data[lhs];
+    data[lhs] = data[rhs];
+    data[rhs] = element;
+  }
+
+  /**
+   * Sorts the range, where the element before it (if {@code hasPredecessor}) is not greater than
+   * any element of the range. It recurses only into the shorter part, so the stack depth is
+   * logarithmic.
+   */
+  private void recurse(int from, int to, boolean hasPredecessor, int limit) {
+    var wasBalanced = true;
+    wasPartitioned = true;
+
+    while (true) {
+      var len = to - from;
+      if (len <= MAX_INSERTION) {
+        insertionSort(from, to);
+        return;
+      }
+
+      if (limit == 0) {
+        heapSort(from, to);
+        return;
+      }
+
+      if (!wasBalanced) {
+        breakPatterns(from, to);
+        limit -= 1;
+      }
+
+      var pivot = choosePivot(from, to);
+      var likelySorted = swaps == 0;
+      if (swaps >= MAX_SWAPS) {
+        // Most likely the range is descending, so reversing makes it ascending
+        MergeSort.reverse(data, from, to);
+        pivot = from + to - 1 - pivot;
+        likelySorted = true;
+      }
+
+      if (wasBalanced && wasPartitioned && likelySorted && partialInsertionSort(from, to)) {
+        return;
+      }
+
+      // If the pivot equals to predecessor, which is the smallest one, then all elements equal to
+      // the pivot are put together and skipped
+      if (hasPredecessor && !less(from - 1, pivot)) {
+        from = partitionEqual(from, to, pivot);
+        continue;
+      }
+
+      var middle = partition(from, to, pivot);
+      var leftLen = middle - from;
+      var rightLen = to - middle - 1;
+      wasBalanced = Math.min(leftLen, rightLen) >= len / 8;
+
+      var partitioned = wasPartitioned;
+      if (leftLen < rightLen) {
+        recurse(from, middle, hasPredecessor, limit);
+        from = middle + 1;
+        hasPredecessor = true;
+      } else {
+        recurse(middle + 1, to, true, limit);
+        to = middle;
+      }
+
+      wasPartitioned = partitioned;
+    }
+  }
+
+  /**
+   * Returns the index of median of 3 or median of medians of 9 elements and counts the swaps which
+   * were needed to order them.
+   */
+  private int choosePivot(int from, int to) {
+    var len = to - from;
+    var a = from + len / 4;
+    var b = from + len / 4 * 2;
+    var c = from + len / 4 * 3;
+    swaps = 0;
+
+    if (len >= 8) {
+      if (len >= SHORTEST_MEDIAN_OF_MEDIANS) {
+        a = medianOfAdjacent(a);
+        b = medianOfAdjacent(b);
+        c = medianOfAdjacent(c);
+      }
+
+      b = medianOf3(a, b, c);
+    }
+
+    return b;
+  }
+
+  private int medianOfAdjacent(int index) {
+    return medianOf3(index - 1, index, index + 1);
+  }
+
+  private int medianOf3(int a, int b, int c) {
+    if (less(b, a)) {
+      var index = a;
+      a = b;
+      b = index;
+      swaps += 1;
+    }
+
+    if (less(c, b)) {
+      b = c;
+      swaps += 1;
+      if (less(b, a)) {
+        b = a;
+        swaps += 1;
+      }
+    }
+
+    return b;
+  }
+
+  /**
+   * Moves the elements less than pivot to the left and others to the right and returns the final
+   * position of pivot. It also tells if the range was already partitioned.
+   */
+  private int partition(int from, int to, int pivot) {
+    swap(from, pivot);
+    var pivotElement = data[from];
+    var i = from + 1;
+    var j = to - 1;
+
+    while (i <= j && comparator.compare(data[i], pivotElement) < 0) {
+      i += 1;
+    }
+
+    while (i <= j && comparator.compare(data[j], pivotElement) >= 0) {
+      j -= 1;
+    }
+
+    wasPartitioned = i > j;
+    while (i < j) {
+      swap(i, j);
+      i += 1;
+      j -= 1;
+
+      while (i <= j && comparator.compare(data[i], pivotElement) < 0) {
+        i += 1;
+      }
+
+      while (i <= j && comparator.compare(data[j], pivotElement) >= 0) {
+        j -= 1;
+      }
+    }
+
+    swap(from, j);
+    return j;
+  }
+
+  /**
+   * Moves the elements equal to pivot to the left, assuming that no element is less than pivot.
+   * Returns the end of equal elements.
+   */
+  private int partitionEqual(int from, int to, int pivot) {
+    swap(from, pivot);
+    var pivotElement = data[from];
+    var i = from + 1;
+    var j = to - 1;
+
+    while (true) {
+      while (i <= j && comparator.compare(pivotElement, data[i]) >= 0) {
+        i += 1;
+      }
+
+      while (i <= j && comparator.compare(pivotElement, data[j]) < 0) {
+        j -= 1;
+      }
+
+      if (i > j) {
+        return i;
+      }
+
+      swap(i, j);
+      i += 1;
+      j -= 1;
+    }
+  }
+
+  /**
+   * Sorts the nearly sorted range by shifting a few out-of-order elements. Returns false if there
+   * are too many of them, so the range is left partially sorted.
+   */
+  private boolean partialInsertionSort(int from, int to) {
+    var i = from + 1;
+    for (var step = 0; step < MAX_SHIFTING_STEPS; step++) {
+      while (i < to && !less(i, i - 1)) {
+        i += 1;
+      }
+
+      if (i == to) {
+        return true;
+      }
+
+      if (to - from < SHORTEST_SHIFTING) {
+        return false;
+      }
+
+      swap(i - 1, i);
+      shiftTail(from, i);
+      shiftHead(i, to);
+    }
+
+    return false;
+  }
+
+  /** Moves the last element of range to the left until it is in order. */
+  private void shiftTail(int from, int to) {
+    var element = data[to - 1];
+    var i = to - 1;
+    while (i > from && comparator.compare(element, data[i - 1]) < 0) {
+      data[i] = data[i - 1];
+      i -= 1;
+    }
+
+    data[i] = element;
+  }
+
+  /** Moves the first element of range to the right until it is in order. */
+  private void shiftHead(int from, int to) {
+    var element = data[from];
+    var i = from;
+    while (i + 1 < to && comparator.compare(data[i + 1], element) < 0) {
+      data[i] = data[i + 1];
+      i += 1;
+    }
+
+    data[i] = element;
+  }
+
+  private void insertionSort(int from, int to) {
+    for (var i = from + 1; i < to; i++) {
+      shiftTail(from, i + 1);
+    }
+  }
+
+  /** Swaps a few elements around the middle with random ones by xorshift generator. */
+  private void breakPatterns(int from, int to) {
+    var len = to - from;
+    if (len < 8) {
+      return;
+    }
+
+    // The mask is below twice the length, so one subtraction brings the random index into range
+    var mask = Integer.highestOneBit(len) * 2 - 1;
+    var position = from + len / 4 * 2;
+    for (var i = 0; i < 3; i++) {
+      seed ^= seed << 13;
+      seed ^= seed >>> 17;
+      seed ^= seed << 5;
+
+      var other = seed & mask;
+      if (other >= len) {
+        other -= len;
+      }
+
+      swap(position - 1 + i, from + other);
+    }
+  }
+
+  private void heapSort(int from, int to) {
+    var len = to - from;
+    for (var i = len / 2 - 1; i >= 0; i--) {
+      siftDown(from, i, len);
+    }
+
+    for (var end = len - 1; end > 0; end--) {
+      swap(from, from + end);
+      siftDown(from, 0, end);
+    }
+  }
+
+  private void siftDown(int from, int index, int len) {
+    while (true) {
+      var child = 2 * index + 1;
+      if (child >= len) {
+        return;
+      }
+
+      if (child + 1 < len && less(from + child, from + child + 1)) {
+        child += 1;
+      }
+
+      if (!less(from + index, from + child)) {
+        return;
+      }
+
+      swap(from + index, from + child);
+      index = child;
+    }
+  }
+}
@@ -0,0 +1,185 @@
+package jarkz.collection.vector;
+
+/**
+ * The least significant digit radix sort of primitive values by bytes. It counts the histograms of
+ * all bytes in a single pass and skips the bytes which are the same for all values, e.g. the high
+ * bytes of small numbers, so it takes from one to eight passes over the values.
+ *
+ * <p>The signed values are ordered by flipping the sign bit of their keys, and {@code double}
+ * values are mapped to {@code long} keys which keep the order of {@link Double#compare}.
+ */
+final class RadixSort {
+  private static final int MAX_INSERTION = 64;
+  private static final int RADIX = 256;
+
+  private RadixSort() {}
+
+  /** Sorts first len values. */
+  static void sort(int[] data, int len) {
+    if (len <= MAX_INSERTION) {
+      insertionSort(data, len);
+      return;
+    }
+
+    var counts = new int[Integer.BYTES][RADIX];
+    for (var i = 0; i < len; i++) {
+      var key = data[i] ^ Integer.MIN_VALUE;
+      for (var digit = 0; digit < Integer.BYTES; digit++) {
+        counts[digit][(key >>> (digit * 8)) & 0xFF] += 1;
+      }
+    }
+
+    var source = data;
+    var destination = new int[len];
+    for (var digit = 0; digit < Integer.BYTES; digit++) {
+      var offsets = counts[digit];
+      if (!toOffsets(offsets, len)) {
+        continue;
+      }
+
+      var shift = digit * 8;
+      for (var i = 0; i < len; i++) {
+        var element = source[i];
+        var bucket = ((element ^ Integer.MIN_VALUE) >>> shift) & 0xFF;
+        destination[offsets[bucket]++] = element;
+      }
+
+      var swap = source;
+      source = destination;
+      destination = swap;
+    }
+
+    if (source != data) {
+      System.arraycopy(source, 0, data, 0, len);
+    }
+  }
+
+  /** Sorts first len values. */
+  static void sort(long[] data, int len) {
+    if (len <= MAX_INSERTION) {
+      insertionSort(data, len);
+      return;
+    }
+
+    var counts = new int[Long.BYTES][RADIX];
+    for (var i = 0; i < len; i++) {
+      var key = data[i] ^ Long.MIN_VALUE;
+      for (var digit = 0; digit < Long.BYTES; digit++) {
+        counts[digit][(int) (key >>> (digit * 8)) & 0xFF] += 1;
+      }
+    }
+
+    var source = data;
+    var destination = new long[len];
+    for (var digit = 0; digit < Long.BYTES; digit++) {
+      var offsets = counts[digit];
+      if (!toOffsets(offsets, len)) {
+        continue;
+      }
+
+      var shift = digit * 8;
+      for (var i = 0; i < len; i++) {
+        var element = source[i];
+        var bucket = (int) ((element ^ Long.MIN_VALUE) >>> shift) & 0xFF;
+        destination[offsets[bucket]++] = element;
+      }
+
+      var swap = source;
+      source = destination;
+      destination = swap;
+    }
+
+    if (source != data) {
+      System.arraycopy(source, 0, data, 0, len);
+    }
+  }
+
+  /**
+   * Sorts first len values in order of {@link Double#compare}, so {@code -0.0} goes before {@code
+   * 0.0} and NaN values go last.
+   */
+  static void sort(double[] data, int len) {
+    // NaN values are moved to the end at first, because their keys may be less than ones of other
+    // values and the order of different NaN values is not defined anyway
+    var end = len;
+    for (var i = 0; i < end; ) {
+      if (Double.isNaN(data[i])) {
+        end -= 1;
+        var element = data[i];
+        data[i] = data[end];
+        data[end] = element;
+      } else {
+        i += 1;
+      }
+    }
+
+    var keys = new long[end];
+    for (var i = 0; i < end; i++) {
+      keys[i] = toKey(data[i]);
+    }
+
+    sort(keys, end);
+    for (var i = 0; i < end; i++) {
+      data[i] = fromKey(keys[i]);
+    }
+  }
+
+  /**
+   * Turns the counts of digit into starting offsets of buckets. Returns false if all values have
+   * the same digit, so the pass may be skipped.
+   */
+  private static boolean toOffsets(int[] counts, int len) {
+    var offset = 0;
+    for (var bucket = 0; bucket < RADIX; bucket++) {
+      var count = counts[bucket];
+      if (count == len) {
+        return false;
+      }
+
+      counts[bucket] = offset;
+      offset += count;
+    }
+
+    return true;
+  }
+
+  /**
+   * Maps the double to long which compares as signed value in the same order. The negative values
+   * have all bits except the sign flipped, so the greater magnitude becomes the less key. The
+   * mapping is its own inverse.
+   */
+  private static long toKey(double value) {
+    var bits = Double.doubleToRawLongBits(value);
+    return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+  }
+
+  private static double fromKey(long key) {
+    return Double.longBitsToDouble(key ^ ((key >> 63) & Long.MAX_VALUE));
+  }
+
+  private static void insertionSort(int[] data, int len) {
+    for (var i = 1; i < len; i++) {
+      var element = data[i];
+      var j = i;
+      while (j > 0 && data[j - 1] > element) {
+        data[j] = data[j - 1];
+        j -= 1;
+      }
+
+      data[j] = element;
+    }
+  }
+
+  private static void insertionSort(long[] data, int len) {
+    for (var i = 1; i < len; i++) {
+      var element = data[i];
+      var j = i;
+      while (j > 0 && data[j - 1] > element) {
+        data[j] = data[j - 1];
+        j -= 1;
+      }
+
+      data[j] = element;
+    }
+  }
+}
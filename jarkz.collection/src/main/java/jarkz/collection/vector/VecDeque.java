@@ -0,0 +1,250 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.IntoIterator;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The double-ended queue on the ring buffer. Pushing and popping at both ends have amortized
+ * constant cost and don't allocate anything except growing of buffer.
+ *
+ * <p>The capacity of buffer always is a power of two, so the position in ring is computed by mask
+ * instead of division.
+ */
+public class VecDeque<T> implements IntoIterator<T, DoubleEndedIterator<T>> {
+  private static final int MIN_CAPACITY = 8;
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private T[] data;
+  private int head;
+  private int len;
+
+  @SuppressWarnings("unchecked")
+  public VecDeque() {
+    // SAFETY: the created array always is zero-sized
+    // so we don't care about unchecked type casting
+    data = (T[]) new Object[0];
+    head = 0;
+    len = 0;
+  }
+
+  /**
+   * Creates the empty deque which can hold given count of elements without reallocation. The
+   * capacity is rounded up to a power of two.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> VecDeque<T> withCapacity(int capacity) {
+    if (capacity < 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+
+    var deque = new VecDeque<T>();
+    // SAFETY: the created array is empty, so we don't care about unchecked type casting
+    deque.data = (T[]) new Object[roundCapacity(capacity)];
+    return deque;
+  }
+
+  public int len() {
+    return len;
+  }
+
+  public boolean isEmpty() {
+    return len == 0;
+  }
+
+  /** The count of elements which deque can hold without reallocation. */
+  public int capacity() {
+    return data.length;
+  }
+
+  public void pushBack(T element) {
+    checkNonNull(element);
+    if (data.length == len) {
+      grow();
+    }
+
+    data[index(len)] = element;
+    len += 1;
+  }
+
+  public void pushFront(T element) {
+    checkNonNull(element);
+    if (data.length == len) {
+      grow();
+    }
+
+    head = index(data.length - 1);
+    data[head] = element;
+    len += 1;
+  }
+
+  public Optional<T> popBack() {
+    if (isEmpty()) {
+      return Optional.empty();
+    }
+
+    len -= 1;
+    var index = index(len);
+    var element = data[index];
+    data[index] = null;
+
+    return Optional.of(element);
+  }
+
+  public Optional<T> popFront() {
+    if (isEmpty()) {
+      return Optional.empty();
+    }
+
+    var element = data[head];
+    data[head] = null;
+    head = index(1);
+    len -= 1;
+
+    return Optional.of(element);
+  }
+
+  public Optional<T> front() {
+    return at(0);
+  }
+
+  public Optional<T> back() {
+    return at(len - 1);
+  }
+
+  public Optional<T> at(int index) {
+    if (index < 0 || len <= index) {
+      return Optional.empty();
+    }
+
+    return Optional.of(data[index(index)]);
+  }
+
+  public void clear() {
+    var tail = head + len;
+    if (tail <= data.length) {
+      Arrays.fill(data, head, tail, null);
+    } else {
+      Arrays.fill(data, head, data.length, null);
+      Arrays.fill(data, 0, tail - data.length, null);
+    }
+
+    head = 0;
+    len = 0;
+  }
+
+  /**
+   * Returns the contents of deque as two slices in order, because the elements may wrap around
+   * the end of ring buffer. The right slice is empty if they don't. Slices share the buffer, so
+   * they have the same restrictions as {@link VectorSlice}.
+   */
+  public VectorSlice.Split<T> asSlices() {
+    var tail = head + len;
+    if (tail <= data.length) {
+      return new VectorSlice.Split<>(
+          new VectorSlice<>(data, head, tail), new VectorSlice<>(data, 0, 0));
+    }
+
+    return new VectorSlice.Split<>(
+        new VectorSlice<>(data, head, data.length),
+        new VectorSlice<>(data, 0, tail - data.length));
+  }
+
+  /**
+   * Removes all elements and returns the iterator over them. The iterator takes the current buffer
+   * away from deque, so draining does not copy anything and the deque allocates a new buffer on
+   * the next push.
+   */
+  @SuppressWarnings("unchecked")
+  public DoubleEndedIterator<T> drain() {
+    var iterator = new IterVecDeque<>(data, head, len);
+
+    // SAFETY: the created array always is zero-sized
+    // so we don't care about unchecked type casting
+    data = (T[]) new Object[0];
+    head = 0;
+    len = 0;
+    return iterator;
+  }
+
+  /**
+   * Removes at most count elements from the front and returns the iterator over them. Unlike
+   * {@link #drain()}, it copies the removed elements, because the deque keeps its buffer.
+   */
+  @SuppressWarnings("unchecked")
+  public DoubleEndedIterator<T> drainFront(int count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("Invalid count: " + count);
+    }
+
+    count = Math.min(count, len);
+    // SAFETY: the array holds only T elements which are copied from deque
+    var removed = (T[]) new Object[count];
+    var first = Math.min(count, data.length - head);
+    System.arraycopy(data, head, removed, 0, first);
+    System.arraycopy(data, 0, removed, first, count - first);
+    Arrays.fill(data, head, head + first, null);
+    Arrays.fill(data, 0, count - first, null);
+
+    head = index(count);
+    len -= count;
+    return new IterVector<>(removed, 0, count);
+  }
+
+  /** Returns the iterator which shares the buffer of deque. */
+  @Override
+  public DoubleEndedIterator<T> intoIterator() {
+    return new IterVecDeque<>(data, head, len);
+  }
+
+  private int index(int offset) {
+    return (head + offset) & (data.length - 1);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void grow() {
+    if (data.length == MAX_CAPACITY) {
+      throw new IllegalStateException("The deque is out of capacity!");
+    }
+
+    // SAFETY: the array holds only T elements which are copied from deque
+    var newData = (T[]) new Object[Math.max(data.length * 2, MIN_CAPACITY)];
+    var first = Math.min(len, data.length - head);
+    System.arraycopy(data, head, newData, 0, first);
+    System.arraycopy(data, 0, newData, first, len - first);
+
+    data = newData;
+    head = 0;
+  }
+
+  private static int roundCapacity(int capacity) {
+    if (capacity <= MIN_CAPACITY) {
+      return MIN_CAPACITY;
+    }
+
+    return Integer.highestOneBit(capacity - 1) << 1;
+  }
+
+  private static <T> void checkNonNull(T element) {
+    if (element == null) {
+      throw new IllegalArgumentException("The element must be non null!");
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("VecDeque[");
+    for (int i = 0; i < len; i++) {
+      if (i > 0) {
+        builder.append(", ");
+      }
+
+      builder.append(data[index(i)]);
+    }
+
+    builder.append("]");
+    return builder.toString();
+  }
+}
@@ -3,12 +3,23 @@ package jarkz.collection.vector;
 import jarkz.collection.iterator.DoubleEndedIterator;
 import jarkz.collection.iterator.IntoIterator;
 import jarkz.collection.iterator.Iterator;
+import jarkz.collection.iterator.ParallelIterator;
+import jarkz.collection.iterator.SizeHint;
+import jarkz.collection.result.Result;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 public class Vector<T> implements IntoIterator<T, DoubleEndedIterator<T>> {
+  // Some VMs reserve header words in an array, so bigger arrays may fail to allocate
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
   private T[] data;
   private int len;
+  private GrowthPolicy growthPolicy = GrowthPolicy.DOUBLE;
 
   @SuppressWarnings("unchecked")
   public Vector() {
@@ -19,21 +30,82 @@ public class Vector<T> implements IntoIterator<T, DoubleEndedIterator<T>> {
   }
 
   @SafeVarargs
+  @SuppressWarnings("unchecked")
   public Vector(T... data) {
-    for (T element : data) {
-      if (element == null) {
-        throw new IllegalArgumentException("Found a nullable value in given collection!");
-      }
-    }
+    checkNonNull(data);
 
-    this.data = data;
+    // SAFETY: the copy is an Object[] array holding only T elements, so it
+    // neither aliases the caller's array nor throws ArrayStoreException later
+    this.data = (T[]) Arrays.copyOf(data, data.length, Object[].class);
     len = data.length;
   }
 
+  /** Creates the empty vector which can hold given count of elements without reallocation. */
+  @SuppressWarnings("unchecked")
+  public static <T> Vector<T> withCapacity(int capacity) {
+    if (capacity < 0 || capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("Invalid capacity: " + capacity);
+    }
+
+    var vector = new Vector<T>();
+    // SAFETY: the created array is empty, so we don't care about unchecked type casting
+    vector.data = (T[]) new Object[capacity];
+    return vector;
+  }
+
   public int len() {
     return len;
   }
 
+  /** The count of elements which vector can hold without reallocation. */
+  public int capacity() {
+    return data.length;
+  }
+
+  /** Sets the rule by which vector grows when the capacity is not enough. */
+  public void setGrowthPolicy(GrowthPolicy growthPolicy) {
+    if (growthPolicy == null) {
+      throw new IllegalArgumentException("The growth policy must be non null!");
+    }
+
+    this.growthPolicy = growthPolicy;
+  }
+
+  /**
+   * Reserves the capacity for at least additional count of elements. It grows the vector by its
+   * {@link GrowthPolicy}, so the repeating calls have amortized constant cost.
+   */
+  public void reserve(int additional) {
+    var required = requiredCapacity(additional);
+    if (data.length < required) {
+      grow(required);
+    }
+  }
+
+  /**
+   * Reserves the capacity for exactly additional count of elements. Prefer {@link Vector#reserve}
+   * if more elements are expected later.
+   */
+  public void reserveExact(int additional) {
+    var required = requiredCapacity(additional);
+    if (data.length < required) {
+      data = Arrays.copyOf(data, required);
+    }
+  }
+
+  /** Releases the unused capacity, so vector holds exactly {@link Vector#len} elements. */
+  public void shrinkToFit() {
+    if (data.length > len) {
+      data = Arrays.copyOf(data, len);
+    }
+  }
+
+  /** Removes all elements, but keeps the allocated capacity for reuse. */
+  public void clear() {
+    Arrays.fill(data, 0, len, null);
+    len = 0;
+  }
+
   public boolean isEmpty() {
     return len == 0;
   }
@@ -52,8 +124,7 @@ public class Vector<T> implements IntoIterator<T, DoubleEndedIterator<T>> {
 
   public void push(T element) {
     if (data.length == len) {
-      var newLen = (len + 1) * 2;
-      data = Arrays.copyOf(data, newLen);
+      grow(requiredCapacity(1));
     }
 
     data[len] = element;
@@ -68,28 +139,230 @@ public class Vector<T> implements IntoIterator<T, DoubleEndedIterator<T>> {
     return Optional.of(data[index]);
   }
 
+  /** Returns the view of all elements which shares the backing array. */
+  public VectorSlice<T> asSlice() {
+    return new VectorSlice<>(data, 0, len);
+  }
+
+  /**
+   * Returns the view of elements from (inclusive) to (exclusive) which shares the backing array.
+   * Throws {@link IndexOutOfBoundsException} if the range is out of vector.
+   */
+  public VectorSlice<T> slice(int from, int to) {
+    return asSlice().slice(from, to);
+  }
+
+  /** The same as {@link VectorSlice#splitAt} for the whole vector. */
+  public VectorSlice.Split<T> splitAt(int middle) {
+    return asSlice().splitAt(middle);
+  }
+
+  /** The same as {@link VectorSlice#chunks} for the whole vector. */
+  public Chunks<T> chunks(int size) {
+    return asSlice().chunks(size);
+  }
+
+  /** The same as {@link VectorSlice#chunksExact} for the whole vector. */
+  public ChunksExact<T> chunksExact(int size) {
+    return asSlice().chunksExact(size);
+  }
+
+  /** The same as {@link VectorSlice#windows} for the whole vector. */
+  public Windows<T> windows(int size) {
+    return asSlice().windows(size);
+  }
+
+  /**
+   * Sorts elements by their natural order. The sort is stable and adaptive, so the already sorted
+   * runs of elements take linear time, see {@link Vector#sortBy}.
+   *
+   * <p>> <b>Attention</b>: the elements without natural order throw {@link ClassCastException}.
+   */
+  public void sort() {
+    sortBy(naturalOrder());
+  }
+
+  /**
+   * Sorts elements by the comparator, the equal elements keep their order. It's a merge sort of
+   * natural runs, which allocates the buffer up to half of the length.
+   */
+  public void sortBy(Comparator<? super T> comparator) {
+    MergeSort.sort(data, 0, len, comparator);
+  }
+
+  /** Sorts elements by the keys which extractor returns, see {@link Vector#sortBy}. */
+  public <K extends Comparable<? super K>> void sortByKey(Function<? super T, ? extends K> key) {
+    sortBy(Comparator.comparing(key));
+  }
+
+  /** Sorts elements by their natural order, but may reorder the equal elements. */
+  public void sortUnstable() {
+    sortUnstableBy(naturalOrder());
+  }
+
+  /**
+   * Sorts elements by the comparator by pattern-defeating quicksort. It doesn't allocate memory and
+   * is usually faster than {@link Vector#sortBy}, but it may reorder the equal elements.
+   */
+  public void sortUnstableBy(Comparator<? super T> comparator) {
+    PdqSort.sort(data, 0, len, comparator);
+  }
+
+  /** Sorts elements by their natural order on the common {@link ForkJoinPool}. */
+  public void parallelSort() {
+    parallelSortBy(naturalOrder());
+  }
+
+  /**
+   * Sorts elements by the comparator on the common {@link ForkJoinPool}, the equal elements keep
+   * their order. The small vectors are sorted on the caller thread.
+   */
+  public void parallelSortBy(Comparator<? super T> comparator) {
+    ParallelMergeSort.sort(data, 0, len, comparator, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Searches the element in the vector sorted by natural order. Returns Ok with its index, or Err
+   * with the index where it can be inserted keeping the order. If there are several equal
+   * elements, any of them may be found.
+   */
+  public Result<Integer, Integer> binarySearch(T element) {
+    Comparator<? super T> comparator = naturalOrder();
+    return binarySearchBy(probe -> comparator.compare(probe, element));
+  }
+
+  /**
+   * Searches by the function which compares the probed element with the desired one: it returns
+   * negative number if the probe is less, zero if equal and positive if greater. See {@link
+   * Vector#binarySearch}.
+   */
+  public Result<Integer, Integer> binarySearchBy(ToIntFunction<? super T> comparison) {
+    var from = 0;
+    var to = len;
+    while (from < to) {
+      var middle = (from + to) >>> 1;
+      var ordering = comparison.applyAsInt(data[middle]);
+      if (ordering < 0) {
+        from = middle + 1;
+      } else if (ordering > 0) {
+        to = middle;
+      } else {
+        return Result.Ok(middle);
+      }
+    }
+
+    return Result.Err(from);
+  }
+
+  /** Searches the key in the vector sorted by keys, see {@link Vector#binarySearch}. */
+  public <K extends Comparable<? super K>> Result<Integer, Integer> binarySearchByKey(
+      K key, Function<? super T, ? extends K> extractor) {
+    return binarySearchBy(probe -> extractor.apply(probe).compareTo(key));
+  }
+
   @Override
   public DoubleEndedIterator<T> intoIterator() {
     return new IterVector<>(this);
   }
 
+  /** Creates the {@link ParallelIterator} which splits the vector between threads. */
+  public ParallelIterator<T> parallel() {
+    return new IterVector<>(this).parallel();
+  }
+
+  /**
+   * Collects the elements into a new vector. It allocates exactly the lower bound of elements at
+   * first, so for exact-size iterators the following pushes never copy the array.
+   */
   public static <T, I extends Iterator<T>> Vector<T> collect(I iterator) {
-    return iterator.fold(
-        new Vector<>(),
-        (acc, element) -> {
-          acc.push(element);
-          return acc;
-        });
+    var vector = new Vector<T>();
+    vector.reserveExact(Math.min(iterator.sizeHint().lower(), MAX_CAPACITY));
+    vector.extend(iterator);
+    return vector;
   }
 
+  @SuppressWarnings("unchecked")
   public <I extends Iterator<T>> void extend(IntoIterator<T, I> iterable) {
+    if (iterable instanceof Vector<?> vector) {
+      // SAFETY: Vector<U> implements IntoIterator<U, _> only for U = T
+      extendFromVector((Vector<T>) vector);
+      return;
+    }
+
     extend(iterable.intoIterator());
   }
 
   public <I extends Iterator<T>> void extend(I iterator) {
+    reserveFor(iterator.sizeHint());
     iterator.forEach(element -> push(element));
   }
 
+  /**
+   * Reserves the capacity for the lower bound of elements which iterator will yield. It grows by
+   * {@link GrowthPolicy}, so the repeating extensions by small iterators have amortized cost.
+   */
+  private void reserveFor(SizeHint hint) {
+    reserve(Math.min(hint.lower(), MAX_CAPACITY - len));
+  }
+
+  /** Appends all elements of given array by a single copy. */
+  public void extendFromArray(T[] elements) {
+    checkNonNull(elements);
+    reserve(elements.length);
+    System.arraycopy(elements, 0, data, len, elements.length);
+    len += elements.length;
+  }
+
+  /** Appends all elements of other vector by a single copy. */
+  public void extendFromVector(Vector<T> other) {
+    var count = other.len;
+    reserve(count);
+    System.arraycopy(other.data, 0, data, len, count);
+    len += count;
+  }
+
+  private int requiredCapacity(int additional) {
+    if (additional < 0 || additional > MAX_CAPACITY - len) {
+      throw new IllegalArgumentException(
+          "Can't reserve " + additional + " elements for vector with length " + len);
+    }
+
+    return len + additional;
+  }
+
+  private void grow(int required) {
+    var newCapacity = growthPolicy.grow(data.length, required);
+    // The custom policy may overflow int for the huge vector, it must not fall back to required
+    if (newCapacity < 0 || newCapacity > MAX_CAPACITY) {
+      newCapacity = MAX_CAPACITY;
+    }
+
+    if (newCapacity < required) {
+      newCapacity = required;
+    }
+
+    data = Arrays.copyOf(data, newCapacity);
+  }
+
+  private static <T> void checkNonNull(T[] elements) {
+    for (T element : elements) {
+      if (element == null) {
+        throw new IllegalArgumentException("Found a nullable value in given collection!");
+      }
+    }
+  }
+
+  T[] array() {
+    return data;
+  }
+
+  @SuppressWarnings("unchecked")
+  static <T> Comparator<? super T> naturalOrder() {
+    // SAFETY: the elements without natural order throw ClassCastException on comparison like
+    // java.util.Arrays.sort and java.util.PriorityQueue do
+    return (Comparator<? super T>) Comparator.<Comparable<Object>>naturalOrder();
+  }
+
   @Override
   public String toString() {
     StringBuilder builder = new StringBuilder();
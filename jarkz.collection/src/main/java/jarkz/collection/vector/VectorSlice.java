@@ -0,0 +1,122 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.IntoIterator;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * The view into a contiguous range of {@link Vector} which shares its backing array, so creating a
+ * slice never copies elements.
+ *
+ * <p>> <b>Attention</b>: the slice aliases the live array of vector, so any mutation of vector
+ * after slicing invalidates it. Removals (e.g. pop or clear) empty the slots which slice still
+ * covers, in-place operations like sort reorder its elements, and after reallocation (e.g. growth
+ * on push) the slice keeps reading the old array. Take a new slice after mutating the vector.
+ */
+public class VectorSlice<T> implements IntoIterator<T, DoubleEndedIterator<T>> {
+  private final T[] data;
+  private final int from;
+  private final int to;
+
+  VectorSlice(T[] data, int from, int to) {
+    this.data = data;
+    this.from = from;
+    this.to = to;
+  }
+
+  /** The pair of adjacent slices produced by {@link VectorSlice#splitAt}. */
+  public record Split<T>(VectorSlice<T> left, VectorSlice<T> right) {}
+
+  public int len() {
+    return to - from;
+  }
+
+  public boolean isEmpty() {
+    return from == to;
+  }
+
+  /**
+   * Returns the element at given index of slice, or empty if index is out of slice or the slot was
+   * emptied by the vector after slicing.
+   */
+  public Optional<T> at(int index) {
+    if (index < 0 || len() <= index) {
+      return Optional.empty();
+    }
+
+    return Optional.ofNullable(data[from + index]);
+  }
+
+  /**
+   * Returns the sub-slice from (inclusive) to (exclusive), throws {@link IndexOutOfBoundsException}
+   * if the range is out of slice.
+   */
+  public VectorSlice<T> slice(int from, int to) {
+    Objects.checkFromToIndex(from, to, len());
+    return new VectorSlice<>(data, this.from + from, this.from + to);
+  }
+
+  /**
+   * Divides the slice into two at given index. The left one holds elements before index, the right
+   * one - the rest. Throws {@link IndexOutOfBoundsException} if index is greater than length.
+   */
+  public Split<T> splitAt(int middle) {
+    Objects.checkIndex(middle, len() + 1);
+    return new Split<>(
+        new VectorSlice<>(data, from, from + middle), new VectorSlice<>(data, from + middle, to));
+  }
+
+  /**
+   * Iterates over slices of given size. The last slice may be shorter if length of slice is not
+   * divided by size.
+   */
+  public Chunks<T> chunks(int size) {
+    return new Chunks<>(data, from, to, size);
+  }
+
+  /**
+   * Iterates over slices of exactly given size. The remaining elements which don't fill a whole
+   * chunk are available via {@link ChunksExact#remainder}.
+   */
+  public ChunksExact<T> chunksExact(int size) {
+    return new ChunksExact<>(data, from, to, size);
+  }
+
+  /** Iterates over all overlapping slices of given size, moving by one element. */
+  public Windows<T> windows(int size) {
+    return new Windows<>(data, from, to, size);
+  }
+
+  /** Copies the elements of slice into a new {@link Vector}. */
+  public Vector<T> toVector() {
+    return Vector.collect(intoIterator());
+  }
+
+  @Override
+  public DoubleEndedIterator<T> intoIterator() {
+    return new IterVector<>(data, from, to);
+  }
+
+  static void checkSize(int size) {
+    if (size <= 0) {
+      throw new IllegalArgumentException("The size must be positive, got " + size);
+    }
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder builder = new StringBuilder();
+    builder.append("VectorSlice[");
+    for (int i = from; i < to; i++) {
+      builder.append(data[i]);
+
+      if (i < to - 1) {
+        builder.append(", ");
+      }
+    }
+
+    builder.append("]");
+    return builder.toString();
+  }
+}
@@ -0,0 +1,51 @@
+package jarkz.collection.vector;
+
+import jarkz.collection.iterator.DoubleEndedIterator;
+import jarkz.collection.iterator.SizeHint;
+import java.util.Optional;
+
+public class Windows<T> implements DoubleEndedIterator<VectorSlice<T>> {
+  private T[] data;
+  private int frontPointer;
+  private int backPointer;
+  private int size;
+
+  Windows(T[] data, int frontPointer, int backPointer, int size) {
+    VectorSlice.checkSize(size);
+    this.data = data;
+    this.frontPointer = frontPointer;
+    this.backPointer = backPointer;
+    this.size = size;
+  }
+
+  private boolean isEnd() {
+    return backPointer - frontPointer < size;
+  }
+
+  @Override
+  public SizeHint sizeHint() {
+    return SizeHint.exact(Math.max(backPointer - frontPointer - size + 1, 0));
+  }
+
+  @Override
+  public Optional<VectorSlice<T>> next() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    var window = new VectorSlice<>(data, frontPointer, frontPointer + size);
+    frontPointer += 1;
+    return Optional.of(window);
+  }
+
+  @Override
+  public Optional<VectorSlice<T>> nextBack() {
+    if (isEnd()) {
+      return Optional.empty();
+    }
+
+    var window = new VectorSlice<>(data, backPointer - size, backPointer);
+    backPointer -= 1;
+    return Optional.of(window);
+  }
+}
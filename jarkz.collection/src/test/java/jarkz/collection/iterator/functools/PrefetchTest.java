@@ -0,0 +1,97 @@
+package jarkz.collection.iterator.functools;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import jarkz.collection.iterator.Iterator;
+import jarkz.collection.result.Result;
+import jarkz.collection.vector.Vector;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that only the owner stops the prefetch: the adapters and the terminal operations which
+ * stop early leave the rest of elements readable, the same as for the plain iterator.
+ */
+class PrefetchTest {
+  private static final int BUFFER = 16;
+
+  private final Vector<Integer> numbers = new Vector<>(1, 2, 3, 4, 5, 6, 7, 8);
+
+  /** Runs the operation on the plain and the prefetched iterator and compares what remains. */
+  private void assertSameRest(Consumer<Iterator<Integer>> operation) {
+    var plain = numbers.intoIterator();
+    operation.accept(plain);
+
+    try (var prefetched = numbers.intoIterator().prefetch(BUFFER)) {
+      operation.accept(prefetched);
+      assertEquals(plain.next(), prefetched.next());
+      assertEquals(Vector.collect(plain).toString(), Vector.collect(prefetched).toString());
+    }
+  }
+
+  @Test
+  void restIsReadableAfterFind() {
+    assertSameRest(iterator -> assertEquals(Optional.of(3), iterator.find(x -> x == 3)));
+  }
+
+  @Test
+  void restIsReadableAfterFindMap() {
+    assertSameRest(iterator -> iterator.findMap(x -> x == 3 ? Optional.of(x) : Optional.empty()));
+  }
+
+  @Test
+  void restIsReadableAfterTake() {
+    assertSameRest(iterator -> iterator.take(3).forEach(x -> {}));
+  }
+
+  @Test
+  void restIsReadableAfterTakeWhile() {
+    assertSameRest(iterator -> iterator.takeWhile(x -> x < 3).forEach(x -> {}));
+  }
+
+  @Test
+  void restIsReadableAfterTryFold() {
+    assertSameRest(
+        iterator ->
+            iterator.tryFold(
+                0, (sum, x) -> x < 3 ? Result.<Integer, String>Ok(sum + x) : Result.Err("stop")));
+  }
+
+  @Test
+  void restIsReadableAfterCollectingResults() {
+    assertSameRest(
+        iterator ->
+            iterator
+                .<Result<Integer, String>>map(x -> x < 3 ? Result.Ok(x) : Result.Err("stop"))
+                .collect(Collectors.results()));
+  }
+
+  @Test
+  void closeCancelsSource() throws InterruptedException {
+    var cancelled = new CountDownLatch(1);
+    var endless =
+        new Iterator<Integer>() {
+          private int next = 0;
+
+          @Override
+          public Optional<Integer> next() {
+            return Optional.of(next++);
+          }
+
+          @Override
+          public void cancel() {
+            cancelled.countDown();
+          }
+        };
+
+    try (var prefetched = endless.prefetch(BUFFER)) {
+      assertEquals(Optional.of(0), prefetched.find(x -> x == 0));
+    }
+
+    assertTrue(cancelled.await(10, TimeUnit.SECONDS), "The source wasn't cancelled on close");
+  }
+}
@@ -0,0 +1,81 @@
+package jarkz.collection.maybe;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.management.ThreadMXBean;
+import jarkz.collection.result.Result;
+import java.lang.management.ManagementFactory;
+import java.util.function.IntSupplier;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the paths which reuse shared or existing instances of {@link Maybe} and {@link
+ * Result} don't allocate. It's the same chains as the {@code NoAlloc} benchmarks, but measured by
+ * allocation counter of the current thread, so it runs with the usual tests.
+ */
+class MaybeResultAllocationTest {
+  private static final int ITERATIONS = 100_000;
+  private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  private final Integer value = 42;
+  private final Maybe<Integer> some = Maybe.Some(value);
+  private final Result<Integer, String> ok = Result.Ok(value);
+  private final Result<Integer, String> err = Result.Err("error");
+  private int sink;
+
+  /**
+   * Returns the bytes allocated by given count of calls. The operation is called as many times
+   * before measuring, so lambdas are linked and classes are loaded.
+   */
+  private long allocatedBytes(IntSupplier operation) {
+    for (var i = 0; i < ITERATIONS; i++) {
+      sink += operation.getAsInt();
+    }
+
+    var before = THREADS.getCurrentThreadAllocatedBytes();
+    for (var i = 0; i < ITERATIONS; i++) {
+      sink += operation.getAsInt();
+    }
+
+    return THREADS.getCurrentThreadAllocatedBytes() - before;
+  }
+
+  /** Every allocation takes at least 16 bytes, so a single allocation per call exceeds it. */
+  private void assertNoAllocation(IntSupplier operation) {
+    var allocated = allocatedBytes(operation);
+    assertTrue(allocated < ITERATIONS, "Allocated " + allocated + " bytes in " + ITERATIONS);
+  }
+
+  @Test
+  void maybeNoneChain() {
+    assertNoAllocation(
+        () ->
+            Maybe.<Integer>none()
+                .map(a -> a + 1)
+                .filter(a -> a > 0)
+                .or(Maybe.none())
+                .unwrapOr(0));
+  }
+
+  @Test
+  void maybeSomePassThrough() {
+    assertNoAllocation(() -> some.filter(a -> a > 0).or(Maybe.none()).unwrapOr(0));
+  }
+
+  @Test
+  void resultOkUnit() {
+    assertNoAllocation(() -> Result.<String>Ok().and(Result.<String>Ok()).isOk() ? 1 : 0);
+  }
+
+  @Test
+  void resultErrPassThrough() {
+    assertNoAllocation(
+        () -> err.map(a -> a + 1).and(ok).andThen(a -> Result.<Integer, String>Ok(a)).unwrapOr(0));
+  }
+
+  @Test
+  void resultOkPassThrough() {
+    assertNoAllocation(
+        () -> ok.mapErr(String::length).orElse(() -> Result.Err(0)).map(a -> a).unwrapOr(0));
+  }
+}